@@ -13,6 +13,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import todomvc.performance.LeakMonitor;
+import todomvc.screenplay.questions.TheConsoleTally;
+import todomvc.screenplay.tasks.CountConsoleMessages;
 
 import java.util.List;
 
@@ -37,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  *   <li>Performance analysis of network requests</li>
  * </ul>
  */
+@ExtendWith(LeakMonitor.class)
 @ExtendWith(SerenityJUnit5Extension.class)
 @DisplayName("Network and Console Capture")
 class WhenCapturingNetworkAndConsoleTest {
@@ -45,8 +49,8 @@ class WhenCapturingNetworkAndConsoleTest {
 
     @BeforeEach
     void setUp() {
-        inspector = Actor.named("Inspector")
-            .whoCan(BrowseTheWebWithPlaywright.usingTheDefaultConfiguration());
+        inspector = LeakMonitor.watch(Actor.named("Inspector")
+            .whoCan(BrowseTheWebWithPlaywright.usingTheDefaultConfiguration()));
     }
 
     @Nested
@@ -432,6 +436,61 @@ class WhenCapturingNetworkAndConsoleTest {
         }
     }
 
+    @Nested
+    @DisplayName("Counting Console Messages by Severity")
+    class CountingConsoleMessagesBySeverity {
+
+        @Test
+        @DisplayName("Can count console messages by severity as they arrive")
+        void canCountConsoleMessagesBySeverity() {
+            inspector.attemptsTo(
+                CountConsoleMessages.duringTest(),
+                Open.url("about:blank"),
+                ExecuteJavaScript.async(
+                    "console.log('1'); console.warn('2'); console.error('3'); console.error('4');"
+                ),
+                Ensure.that(TheConsoleTally.total()).isEqualTo(4),
+                Ensure.that(TheConsoleTally.errorCount()).isEqualTo(2),
+                Ensure.that(TheConsoleTally.warningCount()).isEqualTo(1)
+            );
+        }
+
+        @Test
+        @DisplayName("Should have no JavaScript errors or warnings during a user flow")
+        void shouldHaveNoErrorsOrWarningsDuringUserFlow() {
+            inspector.attemptsTo(
+                CountConsoleMessages.duringTest(),
+                Open.url("about:blank"),
+                ExecuteJavaScript.async(
+                    "document.body.innerHTML = '<form><input id=\"email\"><button>Submit</button></form>';" +
+                    "console.log('Form rendered');"
+                ),
+                Enter.theValue("user@example.com").into("#email"),
+                Click.on("button"),
+                Ensure.that(TheConsoleTally.hasNoErrors()).isTrue(),
+                Ensure.that(TheConsoleTally.hasNoWarnings()).isTrue()
+            );
+        }
+
+        @Test
+        @DisplayName("Keeps only the most recent messages, sharing repeated texts")
+        void keepsOnlyTheMostRecentMessages() {
+            inspector.attemptsTo(
+                CountConsoleMessages.duringTest(),
+                Open.url("about:blank"),
+                ExecuteJavaScript.async(
+                    "for (let i = 0; i < 600; i++) { console.log('polling...'); } console.log('done');"
+                )
+            );
+
+            List<String> recent = inspector.asksFor(TheConsoleTally.recentMessages());
+
+            assertThat(inspector.asksFor(TheConsoleTally.total())).isEqualTo(601);
+            assertThat(recent).hasSize(500).endsWith("done");
+            assertThat(recent.get(0)).isSameAs(recent.get(1));
+        }
+    }
+
     @Nested
     @DisplayName("Combined Network and Console Capture")
     class CombinedCapture {
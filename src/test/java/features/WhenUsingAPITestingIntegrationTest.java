@@ -1,5 +1,8 @@
 package features;
 
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import net.serenitybdd.junit5.SerenityJUnit5Extension;
 import net.serenitybdd.screenplay.Actor;
 import net.serenitybdd.screenplay.ensure.Ensure;
@@ -7,14 +10,30 @@ import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywrigh
 import net.serenitybdd.screenplay.playwright.interactions.Open;
 import net.serenitybdd.screenplay.playwright.interactions.api.APIRequest;
 import net.serenitybdd.screenplay.playwright.questions.api.LastAPIResponse;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import todomvc.performance.LeakMonitor;
+import todomvc.screenplay.questions.TheCachedResponse;
+import todomvc.screenplay.questions.TheJsonResponse;
+import todomvc.screenplay.tasks.APIResponseCache;
+import todomvc.screenplay.tasks.CachedAPIRequest;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,6 +46,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  *   <li>Perform hybrid UI + API testing scenarios</li>
  *   <li>Query API responses (status, headers, body, JSON)</li>
  *   <li>Record API calls in Serenity reports (like RestAssured)</li>
+ *   <li>Decode JSON bodies into typed records as they stream, without map trees</li>
+ *   <li>Serve repeated GETs from a cache that follows Cache-Control, ETag and Vary</li>
  * </ul>
  *
  * <p>Use cases:</p>
@@ -39,12 +60,15 @@ import static org.assertj.core.api.Assertions.assertThat;
  *
  * <p>This example uses https://jsonplaceholder.typicode.com for demonstration.</p>
  */
+@ExtendWith(LeakMonitor.class)
 @ExtendWith(SerenityJUnit5Extension.class)
 @DisplayName("API Testing Integration")
 class WhenUsingAPITestingIntegrationTest {
 
     Actor tester;
 
+    record Post(int userId, int id, String title, String body) {}
+
     @BeforeEach
     void setUp() {
         tester = Actor.named("API Tester")
@@ -52,6 +76,7 @@ class WhenUsingAPITestingIntegrationTest {
 
         // Initialize a page to get the browser context (required for API calls)
         tester.attemptsTo(Open.url("about:blank"));
+        LeakMonitor.watch(tester);
     }
 
     @Nested
@@ -109,6 +134,227 @@ class WhenUsingAPITestingIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Decoding JSON responses as they stream")
+    class DecodingJsonResponsesAsTheyStream {
+
+        @Test
+        @DisplayName("Can bind a resource to a typed record")
+        void canBindResourceToRecord() {
+            tester.attemptsTo(
+                APIRequest.get("https://jsonplaceholder.typicode.com/posts/1")
+            );
+
+            Post post = tester.asksFor(TheJsonResponse.as(Post.class));
+
+            assertThat(post.id()).isEqualTo(1);
+            assertThat(post.title()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("Can check every element of a collection one at a time")
+        void canCheckEveryElementOfCollection() {
+            tester.attemptsTo(
+                APIRequest.get("https://jsonplaceholder.typicode.com/posts")
+                    .withQueryParam("userId", "1")
+            );
+
+            tester.attemptsTo(
+                Ensure.that(TheJsonResponse.elementCount()).isGreaterThan(0),
+                Ensure.that(TheJsonResponse.everyElement(Post.class, post -> post.userId() == 1)).isTrue()
+            );
+            assertThat(tester.asksFor(TheJsonResponse.elementsAs(Post.class)))
+                .extracting(Post::userId)
+                .containsOnly(1);
+        }
+
+        @Test
+        @DisplayName("Can read a single field by JSON pointer")
+        void canReadFieldByJsonPointer() {
+            tester.attemptsTo(
+                APIRequest.get("https://httpbin.org/headers")
+                    .withHeader("X-Custom-Header", "my-value")
+            );
+
+            assertThat(tester.asksFor(TheJsonResponse.at("/headers/X-Custom-Header", String.class)))
+                .isEqualTo("my-value");
+            assertThat(tester.asksFor(TheJsonResponse.at("/headers/X-Missing-Header", String.class)))
+                .isNull();
+        }
+    }
+
+    /**
+     * These run against a local server whose caching headers and request counts the
+     * tests control. They share the JVM-wide cache and its settings, so they run one
+     * at a time.
+     */
+    @Nested
+    @DisplayName("Caching repeated GET requests")
+    @Execution(ExecutionMode.SAME_THREAD)
+    class CachingRepeatedGetRequests {
+
+        HttpServer server;
+        Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+        AtomicInteger notModified = new AtomicInteger();
+
+        @BeforeEach
+        void startTheServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/", this::respond);
+            server.start();
+            cacheSettings().setProperty("todomvc.api-cache.enabled", "true");
+            APIResponseCache.clear();
+        }
+
+        @AfterEach
+        void stopTheServer() {
+            cacheSettings().clearProperty("todomvc.api-cache.enabled");
+            cacheSettings().clearProperty("todomvc.api-cache.max-bytes");
+            APIResponseCache.clear();
+            server.stop(0);
+        }
+
+        @Test
+        @DisplayName("Serves a fresh response again without a request")
+        void servesFreshResponseFromTheCache() {
+            tester.attemptsTo(CachedAPIRequest.get(url("/fresh")));
+            assertThat(tester.asksFor(TheCachedResponse.servedFromCache())).isFalse();
+
+            tester.attemptsTo(CachedAPIRequest.get(url("/fresh")));
+
+            assertThat(tester.asksFor(TheCachedResponse.servedFromCache())).isTrue();
+            assertThat(tester.asksFor(TheCachedResponse.as(Post.class)).title()).isEqualTo("fresh");
+            assertThat(requestsTo("/fresh")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Never keeps a no-store response")
+        void neverKeepsNoStoreResponses() {
+            tester.attemptsTo(
+                CachedAPIRequest.get(url("/no-store")),
+                CachedAPIRequest.get(url("/no-store"))
+            );
+
+            assertThat(tester.asksFor(TheCachedResponse.servedFromCache())).isFalse();
+            assertThat(requestsTo("/no-store")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Revalidates a no-cache response and serves the stored body on 304")
+        void revalidatesNoCacheResponses() {
+            tester.attemptsTo(
+                CachedAPIRequest.get(url("/no-cache")),
+                CachedAPIRequest.get(url("/no-cache"))
+            );
+
+            assertThat(tester.asksFor(TheCachedResponse.servedFromCache())).isTrue();
+            assertThat(tester.asksFor(TheCachedResponse.statusCode())).isEqualTo(200);
+            assertThat(tester.asksFor(TheCachedResponse.as(Post.class)).title()).isEqualTo("revalidated");
+            assertThat(requestsTo("/no-cache")).isEqualTo(2);
+            assertThat(notModified.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Keeps a response for each value of the headers it varies on")
+        void keepsResponsesPerVaryHeader() {
+            tester.attemptsTo(
+                CachedAPIRequest.get(url("/vary")).withHeader("Accept-Language", "en"),
+                CachedAPIRequest.get(url("/vary")).withHeader("Accept-Language", "fr")
+            );
+            assertThat(tester.asksFor(TheCachedResponse.servedFromCache())).isFalse();
+            assertThat(tester.asksFor(TheCachedResponse.body())).isEqualTo("fr");
+
+            tester.attemptsTo(CachedAPIRequest.get(url("/vary")).withHeader("Accept-Language", "en"));
+
+            assertThat(tester.asksFor(TheCachedResponse.servedFromCache())).isTrue();
+            assertThat(tester.asksFor(TheCachedResponse.body())).isEqualTo("en");
+            assertThat(requestsTo("/vary")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Evicts the least recently used responses beyond max-bytes")
+        void evictsLeastRecentlyUsedResponses() {
+            // Room for two of the 2 KB responses, but not three
+            cacheSettings().setProperty("todomvc.api-cache.max-bytes", "5000");
+
+            tester.attemptsTo(
+                CachedAPIRequest.get(url("/large/1")),
+                CachedAPIRequest.get(url("/large/2")),
+                CachedAPIRequest.get(url("/large/3")),
+                CachedAPIRequest.get(url("/large/3"))
+            );
+            assertThat(tester.asksFor(TheCachedResponse.servedFromCache())).isTrue();
+
+            tester.attemptsTo(CachedAPIRequest.get(url("/large/1")));
+
+            assertThat(tester.asksFor(TheCachedResponse.servedFromCache())).isFalse();
+            assertThat(requestsTo("/large/1")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Falls back to the default size when max-bytes is not a number")
+        void ignoresMalformedMaxBytes() {
+            cacheSettings().setProperty("todomvc.api-cache.max-bytes", "lots");
+
+            tester.attemptsTo(
+                CachedAPIRequest.get(url("/fresh")),
+                CachedAPIRequest.get(url("/fresh"))
+            );
+
+            assertThat(tester.asksFor(TheCachedResponse.servedFromCache())).isTrue();
+        }
+
+        private void respond(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                String path = exchange.getRequestURI().getPath();
+                requests.computeIfAbsent(path, name -> new AtomicInteger()).incrementAndGet();
+                Headers headers = exchange.getResponseHeaders();
+                String body;
+                if (path.equals("/fresh")) {
+                    headers.set("Cache-Control", "max-age=60");
+                    body = "{\"userId\":1,\"id\":1,\"title\":\"fresh\",\"body\":\"\"}";
+                } else if (path.equals("/no-store")) {
+                    headers.set("Cache-Control", "no-store, max-age=60");
+                    body = "{}";
+                } else if (path.equals("/no-cache")) {
+                    headers.set("Cache-Control", "no-cache");
+                    headers.set("ETag", "\"v1\"");
+                    if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                        notModified.incrementAndGet();
+                        exchange.sendResponseHeaders(304, -1);
+                        return;
+                    }
+                    body = "{\"userId\":1,\"id\":2,\"title\":\"revalidated\",\"body\":\"\"}";
+                } else if (path.equals("/vary")) {
+                    headers.set("Cache-Control", "max-age=60");
+                    headers.set("Vary", "Accept-Language");
+                    body = exchange.getRequestHeaders().getFirst("Accept-Language");
+                } else if (path.startsWith("/large/")) {
+                    headers.set("Cache-Control", "max-age=60");
+                    body = "x".repeat(2048);
+                } else {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+            }
+        }
+
+        private String url(String path) {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+        }
+
+        private int requestsTo(String path) {
+            return requests.getOrDefault(path, new AtomicInteger()).get();
+        }
+
+        private EnvironmentVariables cacheSettings() {
+            return SystemEnvironmentVariables.currentEnvironmentVariables();
+        }
+    }
+
     @Nested
     @DisplayName("Making POST requests")
     class MakingPostRequests {
@@ -9,6 +9,7 @@ import net.serenitybdd.screenplay.playwright.questions.Text;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import todomvc.performance.LeakMonitor;
 
 import java.nio.file.Path;
 
@@ -31,6 +32,7 @@ import java.nio.file.Path;
  *
  * <p>This example uses https://the-internet.herokuapp.com/login for demonstration.</p>
  */
+@ExtendWith(LeakMonitor.class)
 @ExtendWith(SerenityJUnit5Extension.class)
 @DisplayName("Session State Persistence")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -67,6 +69,8 @@ class WhenUsingSessionStatePersistenceTest {
             SaveSessionState.toPath(savedSessionPath)
         );
 
+        LeakMonitor.watch(alice);
+
         // Clean up this actor
         alice.wrapUp();
     }
@@ -90,6 +94,7 @@ class WhenUsingSessionStatePersistenceTest {
             Ensure.that(Text.of("h2")).containsIgnoringCase("Secure Area")
         );
 
+        LeakMonitor.watch(bob);
         bob.wrapUp();
     }
 
@@ -110,6 +115,7 @@ class WhenUsingSessionStatePersistenceTest {
             SaveSessionState.toFile("my-session")
         );
 
+        LeakMonitor.watch(charlie);
         charlie.wrapUp();
     }
 }
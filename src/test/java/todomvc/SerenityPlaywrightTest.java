@@ -1,14 +1,21 @@
 package todomvc;
 
 import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
 import com.microsoft.playwright.junit.Options;
 import com.microsoft.playwright.junit.OptionsFactory;
 import com.microsoft.playwright.junit.UsePlaywright;
 import net.serenitybdd.junit5.SerenityJUnit5Extension;
 import net.serenitybdd.playwright.junit5.SerenityPlaywrightExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
-
-import java.util.Arrays;
+import todomvc.browser.BrowserEngine;
+import todomvc.browser.BrowserProfile;
+import todomvc.browser.NetworkProfile;
+import todomvc.browser.SharedBrowser;
+import todomvc.performance.LeakMonitor;
+import todomvc.steps.TodoSteps;
 
 /**
  * Base test class for Page Object-based Playwright tests with Serenity BDD.
@@ -19,23 +26,60 @@ import java.util.Arrays;
  * </p>
  * <p>
  * Subclasses receive a {@code Page} parameter in their {@code @BeforeEach} and
- * {@code @Test} methods — no manual setup or teardown is needed.
+ * {@code @Test} methods — no manual setup or teardown is needed. Step libraries
+ * bound to that page with {@link TodoSteps#bindTo(Page)} are released after each
+ * test, so the next test on the same worker thread starts unbound.
+ * </p>
+ * <p>
+ * When the build runs with the {@code shared-browser} profile, the options connect
+ * every worker to the one Chromium server started for the build instead of
+ * launching a browser per worker.
+ * </p>
+ * <p>
+ * The browser engine follows {@link BrowserEngine} ({@code todomvc.browser.engine},
+ * Chromium by default), and the browser arguments and context settings follow the
+ * {@link BrowserProfile} selected with {@code todomvc.browser.profile}. Each test's
+ * context runs under the {@link NetworkProfile} selected with {@code todomvc.network.profile}.
+ * </p>
+ * <p>
+ * The {@link LeakMonitor} checks after each test that the extensions closed its
+ * context and page.
  * </p>
  */
+@ExtendWith(LeakMonitor.class)
 @ExtendWith(SerenityJUnit5Extension.class)
 @ExtendWith(SerenityPlaywrightExtension.class)
-@UsePlaywright(SerenityPlaywrightTest.ChromeHeadlessOptions.class)
+@UsePlaywright(SerenityPlaywrightTest.HeadlessBrowserOptions.class)
 public abstract class SerenityPlaywrightTest {
 
-    public static class ChromeHeadlessOptions implements OptionsFactory {
+    public static class HeadlessBrowserOptions implements OptionsFactory {
+
         @Override
         public Options getOptions() {
-            return new Options()
+            String engine = BrowserEngine.current();
+            BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions();
+            if (BrowserEngine.isChromium()) {
+                launchOptions.setArgs(BrowserProfile.current().chromiumArgs());
+            }
+            Options options = new Options()
+                    .setBrowserName(engine)
                     .setHeadless(true)
-                    .setLaunchOptions(
-                            new BrowserType.LaunchOptions()
-                                    .setArgs(Arrays.asList("--no-sandbox", "--disable-extensions", "--disable-gpu"))
-                    );
+                    .setLaunchOptions(launchOptions)
+                    .setContextOptions(BrowserProfile.current().contextOptions());
+            SharedBrowser.endpointFor(engine).ifPresent(options::setWsEndpoint);
+            return options;
         }
     }
+
+    @BeforeEach
+    void applyBrowserProfile(Page page) {
+        BrowserProfile.current().applyTo(page.context());
+        NetworkProfile.current().applyTo(page.context());
+        LeakMonitor.watch(page.context().browser());
+    }
+
+    @AfterEach
+    void releaseSteps() {
+        TodoSteps.releaseThisThread();
+    }
 }
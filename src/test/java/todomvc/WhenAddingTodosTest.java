@@ -20,7 +20,7 @@ class WhenAddingTodosTest extends SerenityPlaywrightTest {
 
     @BeforeEach
     void setUp(Page page) {
-        todo.setPage(page);
+        todo.bindTo(page);
     }
 
     @Test
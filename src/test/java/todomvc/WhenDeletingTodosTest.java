@@ -20,7 +20,7 @@ class WhenDeletingTodosTest extends SerenityPlaywrightTest {
 
     @BeforeEach
     void setUp(Page page) {
-        todo.setPage(page);
+        todo.bindTo(page);
     }
 
     @Test
@@ -0,0 +1,112 @@
+package todomvc.app;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A stand-in TodoMVC app served from the test resources by the JDK HTTP server.
+ * <p>
+ * The page in {@code src/test/resources/todomvc-app} has the same DOM and behaviour
+ * as the React example, so the page object, Screenplay targets and questions all
+ * work against it. It lets concurrency and load runs measure contention on one
+ * machine without depending on, or loading, the public site.
+ * </p>
+ * <p>
+ * Use it in a test:
+ * <pre>
+ *   try (LocalTodoMvcApp app = LocalTodoMvcApp.start()) {
+ *       actor.attemptsTo(OpenTodoMvcApp.at(app.url()));
+ *   }
+ * </pre>
+ * or run {@code main} (optionally with a port) and pass the printed address
+ * to the suite as {@code -Dtodomvc.url=...}.
+ * </p>
+ */
+public final class LocalTodoMvcApp implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalTodoMvcApp.class);
+    private static final String RESOURCES = "/todomvc-app/";
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+
+    private LocalTodoMvcApp(HttpServer server, ExecutorService workers) {
+        this.server = server;
+        this.workers = workers;
+    }
+
+    /**
+     * Start the app on a free port.
+     */
+    public static LocalTodoMvcApp start() throws IOException {
+        return start(0);
+    }
+
+    public static LocalTodoMvcApp start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ExecutorService workers = Executors.newCachedThreadPool();
+        server.setExecutor(workers);
+        server.createContext("/", LocalTodoMvcApp::serve);
+        server.start();
+        return new LocalTodoMvcApp(server, workers);
+    }
+
+    public static void main(String[] args) throws IOException {
+        LocalTodoMvcApp app = start(args.length > 0 ? Integer.parseInt(args[0]) : 0);
+        Runtime.getRuntime().addShutdownHook(new Thread(app::close, "local-todomvc-stop"));
+        LOG.info("Local TodoMVC app running at {}", app.url());
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    private static void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String resource = RESOURCES + (path.equals("/") ? "index.html" : path.substring(1));
+            try (InputStream content = resource.contains("..") ? null : LocalTodoMvcApp.class.getResourceAsStream(resource)) {
+                if (content == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                byte[] body = content.readAllBytes();
+                exchange.getResponseHeaders().set("Content-Type", contentType(resource));
+                exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+
+    private static String contentType(String resource) {
+        if (resource.endsWith(".html")) {
+            return "text/html; charset=utf-8";
+        }
+        if (resource.endsWith(".js")) {
+            return "text/javascript; charset=utf-8";
+        }
+        if (resource.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        }
+        return "application/octet-stream";
+    }
+}
@@ -0,0 +1,26 @@
+package todomvc.app;
+
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+
+/**
+ * Where the TodoMVC application under test is served from.
+ * <p>
+ * Defaults to the public React example. Set {@code todomvc.url} (for example to
+ * the address printed by {@link LocalTodoMvcApp}) to run the suite against
+ * another copy of the app.
+ * </p>
+ */
+public final class TodoMvcApp {
+
+    public static final String PUBLIC_URL = "https://todomvc.com/examples/react/dist/";
+
+    private static final String URL_PROPERTY = "todomvc.url";
+
+    private TodoMvcApp() {
+    }
+
+    public static String url() {
+        return SystemEnvironmentVariables.currentEnvironmentVariables()
+                .getProperty(URL_PROPERTY, PUBLIC_URL);
+    }
+}
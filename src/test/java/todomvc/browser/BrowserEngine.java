@@ -0,0 +1,41 @@
+package todomvc.browser;
+
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+
+/**
+ * The browser engine the tests run in: {@code chromium} (the default),
+ * {@code firefox} or {@code webkit}, selected with {@code todomvc.browser.engine}.
+ * <p>
+ * The engine matrix runs each engine in its own class loader and fixes the
+ * engine there with {@link #use(String)}, so concurrent engine runs in one JVM
+ * do not depend on a JVM-wide system property.
+ * </p>
+ */
+public final class BrowserEngine {
+
+    private static final String ENGINE_PROPERTY = "todomvc.browser.engine";
+
+    private static volatile String fixedEngine;
+
+    private BrowserEngine() {
+    }
+
+    public static String current() {
+        String engine = fixedEngine;
+        if (engine != null) {
+            return engine;
+        }
+        return SystemEnvironmentVariables.currentEnvironmentVariables().getProperty(ENGINE_PROPERTY, "chromium");
+    }
+
+    public static boolean isChromium() {
+        return "chromium".equals(current());
+    }
+
+    /**
+     * Run every test loaded by this class loader in the given engine.
+     */
+    public static void use(String engine) {
+        fixedEngine = engine;
+    }
+}
@@ -0,0 +1,93 @@
+package todomvc.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import todomvc.performance.LeakMonitor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One browser per worker thread, for code that drives browsers from its own threads.
+ * <p>
+ * When the build provides a shared browser server, each thread connects to it
+ * (see {@link SharedBrowser}); otherwise each thread launches a headless browser
+ * of its own. Callers open a fresh context for each session, usually with
+ * {@link BrowserProfile#newContext(Browser)}, close it when done, and call
+ * {@link #releaseThisThread()} before the thread finishes. Pools whose threads
+ * outlive their work, such as the Cucumber workers, call {@link #releaseAll()}
+ * once nothing will use the browsers again.
+ * </p>
+ */
+public final class BrowserPool {
+
+    private record Launched(Playwright playwright, Browser browser) {}
+
+    private static final ThreadLocal<Map<String, Launched>> LAUNCHED = ThreadLocal.withInitial(HashMap::new);
+    private static final Set<Launched> ALL_LAUNCHED = ConcurrentHashMap.newKeySet();
+
+    private BrowserPool() {
+    }
+
+    /**
+     * This thread's browser for an engine, connecting or launching it on first use.
+     */
+    public static Browser forThisThread(String engine) {
+        if (SharedBrowser.isAvailable(engine)) {
+            return LeakMonitor.watch(SharedBrowser.connect(engine));
+        }
+        Launched launched = LAUNCHED.get().get(engine);
+        if (launched == null || !launched.browser().isConnected()) {
+            // A launch released by releaseAll() has lost its driver as well as its browser
+            Playwright playwright = launched != null && ALL_LAUNCHED.remove(launched)
+                    ? launched.playwright()
+                    : Playwright.create();
+            launched = new Launched(playwright, SharedBrowser.browserType(playwright, engine).launch(launchOptions(engine)));
+            LAUNCHED.get().put(engine, launched);
+            ALL_LAUNCHED.add(launched);
+            LeakMonitor.watch(launched.browser());
+        }
+        return launched.browser();
+    }
+
+    /**
+     * Close the browsers this thread launched, or its connections to the shared
+     * servers, and their Playwright drivers.
+     */
+    public static void releaseThisThread() {
+        LAUNCHED.get().values().forEach(launched -> {
+            ALL_LAUNCHED.remove(launched);
+            launched.playwright().close();
+        });
+        LAUNCHED.remove();
+        SharedBrowser.disconnectThisThread();
+    }
+
+    /**
+     * Close the browsers launched by every thread and every thread's connections to
+     * the shared servers, with their Playwright drivers. Only call this when no
+     * thread will use its browser again.
+     */
+    public static void releaseAll() {
+        for (Launched launched : Set.copyOf(ALL_LAUNCHED)) {
+            ALL_LAUNCHED.remove(launched);
+            try {
+                launched.playwright().close();
+            } catch (RuntimeException alreadyClosed) {
+                // The driver has gone already
+            }
+        }
+        SharedBrowser.disconnectAll();
+    }
+
+    private static BrowserType.LaunchOptions launchOptions(String engine) {
+        BrowserType.LaunchOptions options = new BrowserType.LaunchOptions().setHeadless(true);
+        if ("chromium".equals(engine)) {
+            options.setArgs(BrowserProfile.current().chromiumArgs());
+        }
+        return options;
+    }
+}
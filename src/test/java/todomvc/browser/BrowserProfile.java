@@ -0,0 +1,109 @@
+package todomvc.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.ReducedMotion;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Browser settings selected with {@code todomvc.browser.profile}.
+ * <ul>
+ *   <li>{@code default} - the plain headless Chromium arguments used so far.</li>
+ *   <li>{@code fast} - additionally stops Chromium throttling timers and
+ *       backgrounding renderers, asks pages for reduced motion, and injects a
+ *       stylesheet that disables CSS transitions and animations, so controls such
+ *       as the hover-revealed destroy button appear at once.</li>
+ * </ul>
+ * The browser arguments apply wherever this project launches Chromium; the
+ * context settings apply to every context it creates, and to the pages that
+ * {@code @UsePlaywright} injects into the base test classes.
+ */
+public enum BrowserProfile {
+
+    DEFAULT(List.of(), false),
+    FAST(List.of(
+            "--disable-background-timer-throttling",
+            "--disable-renderer-backgrounding",
+            "--disable-backgrounding-occluded-windows"), true);
+
+    private static final String PROFILE_PROPERTY = "todomvc.browser.profile";
+
+    private static final List<String> CHROMIUM_ARGS = List.of("--no-sandbox", "--disable-extensions", "--disable-gpu");
+
+    private static final String NO_ANIMATIONS_SCRIPT = """
+        (() => {
+          const css = '*, *::before, *::after {'
+            + ' transition: none !important; transition-delay: 0s !important;'
+            + ' animation: none !important; animation-delay: 0s !important;'
+            + ' caret-color: transparent !important; scroll-behavior: auto !important; }';
+          const install = () => {
+            const style = document.createElement('style');
+            style.setAttribute('data-browser-profile', 'fast');
+            style.textContent = css;
+            (document.head || document.documentElement).appendChild(style);
+          };
+          if (document.documentElement) {
+            install();
+          } else {
+            document.addEventListener('DOMContentLoaded', install, { once: true });
+          }
+        })();
+        """;
+
+    private final List<String> extraChromiumArgs;
+    private final boolean neutraliseAnimations;
+
+    BrowserProfile(List<String> extraChromiumArgs, boolean neutraliseAnimations) {
+        this.extraChromiumArgs = extraChromiumArgs;
+        this.neutraliseAnimations = neutraliseAnimations;
+    }
+
+    public static BrowserProfile current() {
+        String profile = SystemEnvironmentVariables.currentEnvironmentVariables()
+                .getProperty(PROFILE_PROPERTY, "default");
+        return valueOf(profile.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public List<String> chromiumArgs() {
+        List<String> args = new ArrayList<>(CHROMIUM_ARGS);
+        args.addAll(extraChromiumArgs);
+        return List.copyOf(args);
+    }
+
+    public Browser.NewContextOptions contextOptions() {
+        Browser.NewContextOptions options = new Browser.NewContextOptions();
+        if (neutraliseAnimations) {
+            options.setReducedMotion(ReducedMotion.REDUCE);
+        }
+        return options;
+    }
+
+    /**
+     * A new context in {@code browser} with this profile's settings, under the
+     * current {@link NetworkProfile}.
+     */
+    public BrowserContext newContext(Browser browser) {
+        BrowserContext context = browser.newContext(contextOptions());
+        applyTo(context);
+        NetworkProfile.current().applyTo(context);
+        return context;
+    }
+
+    /**
+     * Apply the page-level settings to a context created elsewhere, before its
+     * pages navigate.
+     */
+    public void applyTo(BrowserContext context) {
+        if (neutraliseAnimations) {
+            context.addInitScript(NO_ANIMATIONS_SCRIPT);
+        }
+    }
+}
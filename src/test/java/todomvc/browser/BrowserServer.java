@@ -0,0 +1,53 @@
+package todomvc.browser;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CLI;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Starts one long-lived browser server for an engine, for the whole build.
+ * <p>
+ * Playwright for Java cannot call {@code launchServer} itself, so this delegates to
+ * the {@code launch-server} command of the bundled Playwright driver, which does.
+ * The server listens on {@code ws://127.0.0.1:<port>/<engine>} and keeps running
+ * until this process is stopped; the {@code shared-browser} Maven profile starts it
+ * before the integration tests and stops it when the build ends.
+ * </p>
+ * <p>
+ * Usage: {@code BrowserServer <engine> <port>}
+ * </p>
+ */
+public final class BrowserServer {
+
+    private BrowserServer() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String engine = args.length > 0 ? args[0] : "chromium";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 45123;
+
+        JsonObject options = new JsonObject();
+        options.addProperty("headless", true);
+        options.addProperty("port", port);
+        options.addProperty("host", "127.0.0.1");
+        options.addProperty("wsPath", "/" + engine);
+        if ("chromium".equals(engine)) {
+            JsonArray browserArgs = new JsonArray();
+            BrowserProfile.current().chromiumArgs().forEach(browserArgs::add);
+            options.add("args", browserArgs);
+        }
+
+        Path config = Files.createDirectories(Path.of("target", "browser-server")).resolve(engine + ".json");
+        Files.writeString(config, options.toString());
+
+        // Stopping this JVM must also stop the driver and the browser it launched
+        Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> ProcessHandle.current().descendants().forEach(ProcessHandle::destroy)));
+
+        CLI.main(new String[]{"launch-server", "--browser", engine, "--config", config.toString()});
+    }
+}
@@ -0,0 +1,150 @@
+package todomvc.browser;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Route;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Network conditions selected with {@code todomvc.network.profile}.
+ * <ul>
+ *   <li>{@code none} - the network as it is.</li>
+ *   <li>{@code 3g} - 300 ms round trips, 1.6 Mbps down and 750 kbps up.</li>
+ *   <li>{@code high-latency} - 600 ms round trips on an otherwise fast link.</li>
+ *   <li>{@code lossy} - 100 ms round trips, 5 Mbps, and 5% of sub-resource requests dropped.</li>
+ * </ul>
+ * In Chromium, latency and bandwidth are set on each page of the context with the
+ * CDP {@code Network.emulateNetworkConditions} command. Other engines have no
+ * throttling, so the latency is added by routing each request through a delay and
+ * bandwidth is left alone. The delay waits on the page ({@code waitForTimeout}),
+ * which keeps Playwright dispatching, so the requests of a page load are delayed
+ * together rather than one after another; because the waits nest, a request can be
+ * held until the ones that arrived during its delay are released, up to the spread
+ * of their arrival times beyond the profile's latency. Dropped requests are aborted
+ * through routing in every engine; documents are never dropped, so navigation
+ * itself does not fail.
+ * The profile name is added to the {@code PerformanceBaseline} context, so timings
+ * under each profile are compared only with runs under the same profile.
+ */
+public enum NetworkProfile {
+
+    NONE("none", 0, -1, -1, 0),
+    THREE_G("3g", 300, 200_000, 93_750, 0),
+    HIGH_LATENCY("high-latency", 600, 1_250_000, 1_250_000, 0),
+    LOSSY("lossy", 100, 625_000, 625_000, 0.05);
+
+    private static final Logger LOG = LoggerFactory.getLogger(NetworkProfile.class);
+
+    private static final String PROFILE_PROPERTY = "todomvc.network.profile";
+
+    private final String label;
+    private final int latencyMillis;
+    private final long downloadBytesPerSecond;
+    private final long uploadBytesPerSecond;
+    private final double dropRate;
+
+    NetworkProfile(String label, int latencyMillis, long downloadBytesPerSecond, long uploadBytesPerSecond, double dropRate) {
+        this.label = label;
+        this.latencyMillis = latencyMillis;
+        this.downloadBytesPerSecond = downloadBytesPerSecond;
+        this.uploadBytesPerSecond = uploadBytesPerSecond;
+        this.dropRate = dropRate;
+    }
+
+    public static NetworkProfile current() {
+        return named(SystemEnvironmentVariables.currentEnvironmentVariables().getProperty(PROFILE_PROPERTY, "none"));
+    }
+
+    public static NetworkProfile named(String label) {
+        for (NetworkProfile profile : values()) {
+            if (profile.label.equalsIgnoreCase(label.trim())) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown network profile '" + label + "'");
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public double dropRate() {
+        return dropRate;
+    }
+
+    /**
+     * Apply these conditions to every page of a context, present and future.
+     */
+    public void applyTo(BrowserContext context) {
+        if (this == NONE) {
+            return;
+        }
+        boolean chromium = isChromium(context);
+        if (chromium) {
+            context.pages().forEach(this::emulateOn);
+            context.onPage(this::emulateOn);
+        }
+        if (dropRate > 0 || !chromium) {
+            context.route("**/*", route -> {
+                boolean document = "document".equals(route.request().resourceType());
+                if (!document && ThreadLocalRandom.current().nextDouble() < dropRate) {
+                    route.abort("failed");
+                    return;
+                }
+                if (!chromium) {
+                    delay(route);
+                }
+                route.resume();
+            });
+        }
+    }
+
+    private void emulateOn(Page page) {
+        try {
+            CDPSession session = page.context().newCDPSession(page);
+            session.send("Network.enable");
+            JsonObject conditions = new JsonObject();
+            conditions.addProperty("offline", false);
+            conditions.addProperty("latency", latencyMillis);
+            conditions.addProperty("downloadThroughput", downloadBytesPerSecond);
+            conditions.addProperty("uploadThroughput", uploadBytesPerSecond);
+            session.send("Network.emulateNetworkConditions", conditions);
+        } catch (PlaywrightException e) {
+            LOG.warn("Could not apply the {} network profile to a page: {}", label, e.getMessage());
+        }
+    }
+
+    private static boolean isChromium(BrowserContext context) {
+        Browser browser = context.browser();
+        return browser == null || "chromium".equals(browser.browserType().name());
+    }
+
+    /**
+     * Hold a request for the profile's latency without blocking Playwright's dispatch.
+     * Playwright Java must be called from one thread, so the request cannot be resumed
+     * from a timer thread, and sleeping in the handler would stop every other request
+     * on the connection until it returned.
+     */
+    private void delay(Route route) {
+        Page page;
+        try {
+            page = route.request().frame().page();
+        } catch (PlaywrightException noFrame) {
+            page = null;
+        }
+        if (page == null || page.isClosed()) {
+            LOG.debug("No page to wait on for {}; resuming it without the added latency", route.request().url());
+            return;
+        }
+        page.waitForTimeout(latencyMillis);
+    }
+}
@@ -0,0 +1,147 @@
+package todomvc.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Client side of the shared browser server started by {@link BrowserServer}.
+ * <p>
+ * When the build runs with the {@code shared-browser} profile, the websocket
+ * endpoint of each engine's server is passed to the tests as the system property
+ * {@code todomvc.browser-server.<engine>}. Tests then connect to that one browser
+ * process instead of launching their own. Without the property everything falls
+ * back to launching a local browser as before.
+ * </p>
+ * <p>
+ * Playwright objects are not thread-safe, so each worker thread gets its own
+ * connection, reused for every test that runs on that thread. Each connection
+ * has a Playwright driver process of its own, which {@link BrowserPool} closes
+ * when the thread or the whole pool is released.
+ * </p>
+ */
+public final class SharedBrowser {
+
+    private static final String ENDPOINT_PROPERTY = "todomvc.browser-server.";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final Set<String> READY_ENDPOINTS = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<Map<String, Connection>> CONNECTIONS = ThreadLocal.withInitial(ConcurrentHashMap::new);
+    private static final Set<Connection> ALL_CONNECTIONS = ConcurrentHashMap.newKeySet();
+
+    private record Connection(Playwright playwright, Browser browser) {}
+
+    private SharedBrowser() {
+    }
+
+    /**
+     * The websocket endpoint of the shared server for an engine, once it accepts
+     * connections, or empty when no shared server is configured.
+     */
+    public static Optional<String> endpointFor(String engine) {
+        String endpoint = System.getProperty(ENDPOINT_PROPERTY + engine);
+        if (endpoint == null || endpoint.isBlank()) {
+            return Optional.empty();
+        }
+        if (READY_ENDPOINTS.add(endpoint)) {
+            awaitServer(URI.create(endpoint));
+        }
+        return Optional.of(endpoint);
+    }
+
+    public static boolean isAvailable(String engine) {
+        return endpointFor(engine).isPresent();
+    }
+
+    /**
+     * This thread's connection to the shared browser for an engine, reconnecting
+     * if the previous connection was lost.
+     */
+    public static Browser connect(String engine) {
+        String endpoint = endpointFor(engine).orElseThrow(() -> new IllegalStateException(
+                "No shared " + engine + " server configured (" + ENDPOINT_PROPERTY + engine + ")"));
+        Connection connection = CONNECTIONS.get().get(engine);
+        if (connection == null || !connection.browser().isConnected()) {
+            // A connection closed by disconnectAll() has lost its driver as well as its browser
+            Playwright playwright = connection != null && ALL_CONNECTIONS.remove(connection)
+                    ? connection.playwright()
+                    : Playwright.create();
+            connection = new Connection(playwright, browserType(playwright, engine).connect(endpoint));
+            CONNECTIONS.get().put(engine, connection);
+            ALL_CONNECTIONS.add(connection);
+        }
+        return connection.browser();
+    }
+
+    /**
+     * Close this thread's connections to the shared servers, and their Playwright
+     * drivers. The shared browsers themselves keep running for other threads.
+     */
+    static void disconnectThisThread() {
+        CONNECTIONS.get().values().forEach(connection -> {
+            ALL_CONNECTIONS.remove(connection);
+            close(connection);
+        });
+        CONNECTIONS.remove();
+    }
+
+    /**
+     * Close the connections of every thread. Only call this when no thread will use
+     * its connection again.
+     */
+    static void disconnectAll() {
+        for (Connection connection : Set.copyOf(ALL_CONNECTIONS)) {
+            ALL_CONNECTIONS.remove(connection);
+            close(connection);
+        }
+    }
+
+    private static void close(Connection connection) {
+        try {
+            connection.playwright().close();
+        } catch (RuntimeException alreadyClosed) {
+            // The driver has gone already
+        }
+    }
+
+    static BrowserType browserType(Playwright playwright, String engine) {
+        return switch (engine) {
+            case "chromium" -> playwright.chromium();
+            case "firefox" -> playwright.firefox();
+            case "webkit" -> playwright.webkit();
+            default -> throw new IllegalArgumentException("Unknown browser engine: " + engine);
+        };
+    }
+
+    private static void awaitServer(URI endpoint) {
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        while (true) {
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress(endpoint.getHost(), endpoint.getPort()), 1000);
+                return;
+            } catch (IOException notListeningYet) {
+                if (Instant.now().isAfter(deadline)) {
+                    throw new PlaywrightException("Shared browser server did not start at " + endpoint);
+                }
+                try {
+                    Thread.sleep(250);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new PlaywrightException("Interrupted while waiting for " + endpoint);
+                }
+            }
+        }
+    }
+}
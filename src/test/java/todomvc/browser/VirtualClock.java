@@ -0,0 +1,168 @@
+package todomvc.browser;
+
+import com.microsoft.playwright.Clock;
+import com.microsoft.playwright.Page;
+import net.serenitybdd.core.Serenity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Playwright's controllable clock, for app timers and debounces that would
+ * otherwise be waited out in real time.
+ * <p>
+ * {@link #install(Page)} replaces the page's timers and {@code Date} with a virtual
+ * clock, preferably before the app loads. {@link #fastForward(Page, Duration)} then
+ * jumps that clock forward, firing the timers that fall due on the way, instead of
+ * sleeping. Each jump is recorded in the Serenity report with the virtual time it
+ * covered, the timers that fired and the wall-clock time it took. The totals for the
+ * suite are logged and written to {@code target/performance/virtual-time.md} when
+ * the JVM exits.
+ * </p>
+ * <p>
+ * The time saved counts only the waiting the app's code actually did: the clock's
+ * {@code setTimeout} and {@code setInterval} are wrapped to note each timer that
+ * fires and the virtual time it fired at, so a jump saves the virtual time up to its
+ * last fired timer, less the real time the jump took. A jump over an idle page
+ * saves nothing, however long it is.
+ * </p>
+ */
+public final class VirtualClock {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualClock.class);
+    private static final Path SUMMARY_FILE = Path.of("target", "performance", "virtual-time.md");
+
+    private static final LongAdder JUMPS = new LongAdder();
+    private static final LongAdder VIRTUAL_MILLIS = new LongAdder();
+    private static final LongAdder WALL_NANOS = new LongAdder();
+    private static final LongAdder TIMERS_FIRED = new LongAdder();
+    private static final LongAdder WAITED_MILLIS = new LongAdder();
+    private static final LongAdder SAVED_MILLIS = new LongAdder();
+
+    private static final String TIMER_TRACKING = """
+            (() => {
+              if (window.__virtualClockTimers) return;
+              const fired = window.__virtualClockTimers = { count: 0, lastAt: 0 };
+              const tracked = schedule => function (callback, ...rest) {
+                if (typeof callback !== 'function') return schedule.call(this, callback, ...rest);
+                return schedule.call(this, function (...args) {
+                  fired.count++;
+                  fired.lastAt = Date.now();
+                  return callback.apply(this, args);
+                }, ...rest);
+              };
+              window.setTimeout = tracked(window.setTimeout);
+              window.setInterval = tracked(window.setInterval);
+            })()
+            """;
+
+    private static final String TIMERS_FIRED_SO_FAR = """
+            () => ({ count: window.__virtualClockTimers ? window.__virtualClockTimers.count : 0,
+                     lastAt: window.__virtualClockTimers ? window.__virtualClockTimers.lastAt : 0,
+                     now: Date.now() })
+            """;
+
+    private record Timers(long count, long lastAt, long now) {}
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(VirtualClock::writeSummary, "virtual-time-summary"));
+    }
+
+    private VirtualClock() {
+    }
+
+    public static void install(Page page) {
+        page.clock().install();
+        trackTimers(page);
+    }
+
+    /**
+     * Install the clock with the page's time set to {@code startingAt}.
+     */
+    public static void install(Page page, Instant startingAt) {
+        page.clock().install(new Clock.InstallOptions().setTime(startingAt.toEpochMilli()));
+        trackTimers(page);
+    }
+
+    /**
+     * Wrap the virtual timers, in this document and the ones the page loads later.
+     * The clock's own init script runs first, so it is its timers that are wrapped.
+     */
+    private static void trackTimers(Page page) {
+        page.addInitScript(TIMER_TRACKING);
+        page.evaluate(TIMER_TRACKING);
+    }
+
+    /**
+     * Jump the page's virtual clock forward, running the timers that fall due.
+     *
+     * @return the wall-clock time the jump took
+     */
+    public static Duration fastForward(Page page, Duration by) {
+        Timers before = timersFired(page);
+        long startedAt = System.nanoTime();
+        page.clock().fastForward(by.toMillis());
+        Duration took = Duration.ofNanos(System.nanoTime() - startedAt);
+        Timers after = timersFired(page);
+
+        long fired = after.count() - before.count();
+        long waited = fired > 0 ? Math.max(0, after.lastAt() - before.now()) : 0;
+        long saved = Math.max(0, waited - took.toMillis());
+        JUMPS.increment();
+        VIRTUAL_MILLIS.add(by.toMillis());
+        WALL_NANOS.add(took.toNanos());
+        TIMERS_FIRED.add(fired);
+        WAITED_MILLIS.add(waited);
+        SAVED_MILLIS.add(saved);
+        Serenity.recordReportData()
+                .withTitle("Virtual time: " + by.toMillis() + " ms")
+                .andContents(String.format(Locale.ROOT, "Fast-forwarded the app clock by %d ms in %d ms of real time.%n"
+                                + "%d timer(s) fired, the last %d ms into the jump: %d ms of waiting saved.%n"
+                                + "Suite so far: %d ms of virtual time in %d jump(s), %d ms saved",
+                        by.toMillis(), took.toMillis(), fired, waited, saved,
+                        VIRTUAL_MILLIS.sum(), JUMPS.sum(), SAVED_MILLIS.sum()));
+        return took;
+    }
+
+    private static Timers timersFired(Page page) {
+        Object result = page.evaluate(TIMERS_FIRED_SO_FAR);
+        if (!(result instanceof Map<?, ?> timers)) {
+            return new Timers(0, 0, 0);
+        }
+        return new Timers(longIn(timers, "count"), longIn(timers, "lastAt"), longIn(timers, "now"));
+    }
+
+    private static long longIn(Map<?, ?> values, String name) {
+        return values.get(name) instanceof Number number ? number.longValue() : 0;
+    }
+
+    private static void writeSummary() {
+        long jumps = JUMPS.sum();
+        if (jumps == 0) {
+            return;
+        }
+        long virtualMillis = VIRTUAL_MILLIS.sum();
+        long wallMillis = Duration.ofNanos(WALL_NANOS.sum()).toMillis();
+        String summary = String.format(Locale.ROOT, "# Virtual time%n%n| Measure | Value |%n|---|---:|%n| Jumps | %d |%n"
+                        + "| Virtual time jumped (ms) | %d |%n| Timers fired | %d |%n"
+                        + "| Virtual time waited for the fired timers (ms) | %d |%n"
+                        + "| Wall-clock time spent jumping (ms) | %d |%n| Wall-clock time saved (ms) | %d |%n",
+                jumps, virtualMillis, TIMERS_FIRED.sum(), WAITED_MILLIS.sum(), wallMillis, SAVED_MILLIS.sum());
+        try {
+            Files.createDirectories(SUMMARY_FILE.getParent());
+            Files.writeString(SUMMARY_FILE, summary);
+        } catch (IOException e) {
+            LOG.warn("Could not write the virtual time summary", e);
+        }
+        LOG.info("Virtual clock: {} ms of app time in {} jump(s), {} timer(s) fired, {} ms of waiting saved",
+                virtualMillis, jumps, TIMERS_FIRED.sum(), SAVED_MILLIS.sum());
+    }
+}
@@ -0,0 +1,52 @@
+package todomvc.cucumber;
+
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import todomvc.app.TodoMvcApp;
+import todomvc.screenplay.tasks.AppSnapshot;
+import todomvc.screenplay.tasks.OpenTodoMvcApp;
+
+/**
+ * Runs the feature Background's "is on the TodoMVC application" step from scratch
+ * once per worker thread, and from a snapshot after that.
+ * <p>
+ * The first time the step runs on a thread, the app is opened as usual (open,
+ * clear storage, reload) and the resulting URL and localStorage are captured.
+ * Later scenarios on that thread restore the snapshot into their new browser
+ * context with a single navigation. The step, its report entry and the
+ * page-load budget check are the same either way.
+ * </p>
+ * <p>
+ * Set {@code todomvc.cucumber.background-snapshot=false} to always open the app
+ * from scratch.
+ * </p>
+ */
+final class BackgroundSnapshot {
+
+    private static final String ENABLED_PROPERTY = "todomvc.cucumber.background-snapshot";
+
+    private static final ThreadLocal<AppSnapshot> SNAPSHOT = new ThreadLocal<>();
+
+    private BackgroundSnapshot() {
+    }
+
+    static void openTheApplication(Actor actor) {
+        if (!isEnabled()) {
+            actor.attemptsTo(OpenTodoMvcApp.onTheTodoMvcHomePage());
+            return;
+        }
+        AppSnapshot snapshot = SNAPSHOT.get();
+        if (snapshot != null && snapshot.url().startsWith(TodoMvcApp.url())) {
+            actor.attemptsTo(OpenTodoMvcApp.fromSnapshot(snapshot));
+            return;
+        }
+        actor.attemptsTo(OpenTodoMvcApp.onTheTodoMvcHomePage());
+        SNAPSHOT.set(AppSnapshot.of(BrowseTheWebWithPlaywright.as(actor).getCurrentPage()));
+    }
+
+    private static boolean isEnabled() {
+        return SystemEnvironmentVariables.currentEnvironmentVariables()
+                .getPropertyAsBoolean(ENABLED_PROPERTY, true);
+    }
+}
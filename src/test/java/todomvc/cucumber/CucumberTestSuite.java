@@ -17,7 +17,7 @@ import static io.cucumber.junit.platform.engine.Constants.*;
 @Suite
 @IncludeEngines("cucumber")
 @SelectPackages("todomvc.cucumber")
-@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "net.serenitybdd.cucumber.core.plugin.SerenityReporterParallel,pretty")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "net.serenitybdd.cucumber.core.plugin.SerenityReporterParallel,pretty,todomvc.progress.LiveProgressPlugin")
 @ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "todomvc.cucumber,net.serenitybdd.cucumber.actors")
 @ConfigurationParameter(key = FEATURES_PROPERTY_NAME, value = "src/test/resources/features")
 @ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME, value = "@playwright")
@@ -1,13 +1,18 @@
 package todomvc.cucumber;
 
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
 import io.cucumber.java.ParameterType;
 import io.cucumber.java.Scenario;
 import net.serenitybdd.screenplay.Actor;
 import net.serenitybdd.screenplay.actors.OnStage;
 import net.serenitybdd.screenplay.playwright.actors.PlaywrightCast;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import todomvc.browser.BrowserEngine;
+import todomvc.browser.BrowserPool;
+import todomvc.performance.LeakMonitor;
 
 /**
  * Cucumber hooks for setting up the Playwright-enabled Screenplay stage.
@@ -17,12 +22,27 @@ import org.slf4j.LoggerFactory;
  *   <li>The stage is set with a PlaywrightCast before each scenario</li>
  *   <li>Actors automatically receive the BrowseTheWebWithPlaywright ability</li>
  *   <li>All browser resources are cleaned up after each scenario</li>
+ *   <li>The pooled browsers are closed after the last scenario</li>
  * </ul>
+ * The stage uses a {@link PooledPlaywrightCast}, so each scenario gets fresh
+ * browser contexts in a browser kept per worker (or in the shared browser server
+ * of the {@code shared-browser} profile) rather than launching a new browser.
+ * Set {@code todomvc.cucumber.pooled-browsers=false} to launch a browser per
+ * scenario with a plain {@link PlaywrightCast}.
  */
 public class PlaywrightHooks {
 
     private static final Logger LOG = LoggerFactory.getLogger(PlaywrightHooks.class);
 
+    /**
+     * Check what the previous scenario on this worker left open, now that its
+     * stage has been cleared, before this one starts.
+     */
+    @Before(order = -1)
+    public void checkForLeaks(Scenario scenario) {
+        LeakMonitor.testStarting(scenario.getName());
+    }
+
     /**
      * Set up the Playwright stage before each scenario.
      * The PlaywrightCast automatically provides actors with the
@@ -31,12 +51,28 @@ public class PlaywrightHooks {
     @Before(order = 0)
     public void setTheStage(Scenario scenario) {
         LOG.info("Setting up Playwright stage for scenario: {}", scenario.getName());
-        OnStage.setTheStage(new PlaywrightCast());
+        OnStage.setTheStage(
+                pooledBrowsers() ? new PooledPlaywrightCast(BrowserEngine.current()) : new PlaywrightCast()
+        );
+    }
+
+    private static boolean pooledBrowsers() {
+        return SystemEnvironmentVariables.currentEnvironmentVariables()
+                .getPropertyAsBoolean("todomvc.cucumber.pooled-browsers", true);
     }
 
     // Note: Cleanup is handled by Serenity's StageDirector @After hook
     // which automatically calls OnStage.drawTheCurtain()
 
+    /**
+     * Close the browsers pooled for the workers, and their Playwright drivers,
+     * once every scenario has run.
+     */
+    @AfterAll
+    public static void closeThePooledBrowsers() {
+        BrowserPool.releaseAll();
+    }
+
     /**
      * Define the {actor} parameter type for Cucumber steps.
      * This allows steps like "Given Toby is on the application"
@@ -0,0 +1,57 @@
+package todomvc.cucumber;
+
+import com.microsoft.playwright.BrowserContext;
+import net.serenitybdd.screenplay.Ability;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import net.serenitybdd.screenplay.playwright.actors.PlaywrightCast;
+import todomvc.browser.BrowserPool;
+import todomvc.browser.BrowserProfile;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link PlaywrightCast} whose actors browse in their worker thread's pooled browser.
+ * <p>
+ * Each actor gets a fresh browser context in the browser that {@link BrowserPool}
+ * keeps for the current thread: the shared browser server when the build provides
+ * one, otherwise a browser launched once per worker, with the settings of the
+ * selected {@link BrowserProfile}. Dismissing the cast at the end
+ * of the scenario closes the contexts and returns the browser to the pool, so later
+ * scenarios on the same worker do not pay for a browser launch.
+ */
+public class PooledPlaywrightCast extends PlaywrightCast {
+
+    private final String engine;
+    private final Set<String> actorsOnStage = new HashSet<>();
+    private final List<BrowserContext> contexts = new ArrayList<>();
+
+    public PooledPlaywrightCast(String engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public Actor actorNamed(String actorName, Ability... abilities) {
+        Actor actor = super.actorNamed(actorName, abilities);
+        if (actorsOnStage.add(actorName)) {
+            BrowserContext context = BrowserProfile.current().newContext(BrowserPool.forThisThread(engine));
+            contexts.add(context);
+            actor.can(BrowseTheWebWithPlaywright.withPage(context.newPage()));
+        }
+        return actor;
+    }
+
+    @Override
+    public void dismissAll() {
+        try {
+            super.dismissAll();
+        } finally {
+            contexts.forEach(BrowserContext::close);
+            contexts.clear();
+            actorsOnStage.clear();
+        }
+    }
+}
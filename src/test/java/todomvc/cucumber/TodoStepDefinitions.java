@@ -22,9 +22,7 @@ public class TodoStepDefinitions {
 
     @Given("{actor} is on the TodoMVC application")
     public void actorIsOnTheTodoMvcApplication(Actor actor) {
-        actor.attemptsTo(
-            OpenTodoMvcApp.onTheTodoMvcHomePage()
-        );
+        BackgroundSnapshot.openTheApplication(actor);
     }
 
     @When("{actor} adds a todo item called {string}")
@@ -36,11 +34,9 @@ public class TodoStepDefinitions {
 
     @When("{actor} adds the following todo items:")
     public void actorAddsTheFollowingTodoItems(Actor actor, List<String> todoItems) {
-        for (String item : todoItems) {
-            actor.attemptsTo(
-                AddATodoItem.called(item)
-            );
-        }
+        actor.attemptsTo(
+            AddATodoItem.withItems(todoItems)
+        );
     }
 
     @Given("{actor} has added the following todo items:")
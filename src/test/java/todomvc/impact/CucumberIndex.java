@@ -0,0 +1,268 @@
+package todomvc.impact;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterType;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.java.StepDefinitionAnnotation;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.PickleTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Optional index of the Cucumber glue and feature files.
+ * <p>
+ * Reads the step-definition patterns and parameter types of the glue packages on
+ * the test classpath by reflection, the same packages the {@code CucumberTestSuite}
+ * is given, parses the feature files into pickles, matches every pickle step
+ * against the patterns, and writes the result to
+ * {@code target/cucumber-index/index.json}. Undefined or ambiguous steps fail here,
+ * in seconds, without launching a browser.
+ * </p>
+ * <p>
+ * The Cucumber run does not read the index; it scans its glue and parses its
+ * features as usual. The index is not bound to the default build: run it with
+ * {@code -Pcucumber-index}. The {@code impact} profile runs it because
+ * {@link TestImpact} maps scenarios to step methods through the index.
+ * </p>
+ * <p>
+ * The index records a hash of the feature files and glue classes, and is only
+ * rebuilt when that hash changes.
+ * </p>
+ * <p>
+ * Usage: {@code CucumberIndex <glue-packages> <features-dir> <index-file>}, with the
+ * glue packages comma-separated.
+ * </p>
+ */
+public final class CucumberIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CucumberIndex.class);
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    record StepDefinition(String pattern, String location, Expression expression) {}
+
+    private CucumberIndex() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> gluePackages = Stream.of(args[0].split(",")).map(String::trim).toList();
+        Path featuresDirectory = Path.of(args[1]);
+        Path indexFile = Path.of(args[2]);
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        List<String> glueClasses = new ArrayList<>();
+        for (String gluePackage : gluePackages) {
+            glueClasses.addAll(classesIn(classLoader, gluePackage));
+        }
+        List<Path> features = filesIn(featuresDirectory, ".feature");
+        String sourcesHash = hashOf(classLoader, glueClasses, features);
+
+        if (Files.exists(indexFile)) {
+            JsonObject existing = GSON.fromJson(Files.readString(indexFile), JsonObject.class);
+            if (existing != null && existing.has("sourcesHash")
+                    && sourcesHash.equals(existing.get("sourcesHash").getAsString())) {
+                LOG.info("Cucumber index is up to date ({})", indexFile);
+                return;
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        ParameterTypeRegistry parameterTypes = new ParameterTypeRegistry(Locale.ENGLISH);
+        List<StepDefinition> stepDefinitions = new ArrayList<>();
+        for (String className : glueClasses) {
+            if (!className.contains("$")) {
+                readGlue(Class.forName(className, false, classLoader), parameterTypes, stepDefinitions);
+            }
+        }
+        ExpressionFactory expressions = new ExpressionFactory(parameterTypes);
+        List<StepDefinition> compiled = stepDefinitions.stream()
+                .map(definition -> new StepDefinition(definition.pattern(), definition.location(),
+                        expressions.createExpression(definition.pattern())))
+                .toList();
+
+        JsonObject index = new JsonObject();
+        index.addProperty("sourcesHash", sourcesHash);
+        JsonArray definitionsJson = new JsonArray();
+        compiled.forEach(definition -> {
+            JsonObject json = new JsonObject();
+            json.addProperty("pattern", definition.pattern());
+            json.addProperty("location", definition.location());
+            definitionsJson.add(json);
+        });
+        index.add("stepDefinitions", definitionsJson);
+
+        List<String> problems = new ArrayList<>();
+        JsonArray featuresJson = new JsonArray();
+        GherkinParser parser = GherkinParser.builder()
+                .includeSource(false)
+                .includeGherkinDocument(false)
+                .build();
+        int pickles = 0;
+        for (Path feature : features) {
+            JsonObject featureJson = new JsonObject();
+            featureJson.addProperty("uri", featuresDirectory.getParent().relativize(feature).toString());
+            featureJson.addProperty("hash", hashOf(classLoader, List.of(), List.of(feature)));
+            JsonArray scenarios = new JsonArray();
+            try (Stream<Envelope> envelopes = parser.parse(feature)) {
+                for (Pickle pickle : (Iterable<Pickle>) envelopes.flatMap(envelope -> envelope.getPickle().stream())::iterator) {
+                    scenarios.add(indexPickle(feature, pickle, compiled, problems));
+                    pickles++;
+                }
+            }
+            featureJson.add("scenarios", scenarios);
+            featuresJson.add(featureJson);
+        }
+        index.add("features", featuresJson);
+        long tookMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Cucumber glue does not match the features:\n  " + String.join("\n  ", problems));
+        }
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, GSON.toJson(index));
+        LOG.info("Indexed {} step definitions and {} scenarios from {} feature files in {} ms ({})",
+                compiled.size(), pickles, features.size(), tookMillis, indexFile);
+    }
+
+    private static void readGlue(Class<?> glue, ParameterTypeRegistry parameterTypes,
+                                 List<StepDefinition> stepDefinitions) throws ReflectiveOperationException {
+        for (Method method : glue.getDeclaredMethods()) {
+            String location = glue.getSimpleName() + "." + method.getName();
+            io.cucumber.java.ParameterType parameterType = method.getAnnotation(io.cucumber.java.ParameterType.class);
+            if (parameterType != null) {
+                String name = parameterType.name().isEmpty() ? method.getName() : parameterType.name();
+                parameterTypes.defineParameterType(new ParameterType<>(name, parameterType.value(), Object.class,
+                        (String argument) -> argument));
+            }
+            for (Annotation annotation : method.getAnnotations()) {
+                if (annotation.annotationType().isAnnotationPresent(StepDefinitionAnnotation.class)) {
+                    String pattern = (String) annotation.annotationType().getMethod("value").invoke(annotation);
+                    stepDefinitions.add(new StepDefinition(pattern, location, null));
+                }
+            }
+        }
+    }
+
+    private static JsonObject indexPickle(Path feature, Pickle pickle, List<StepDefinition> stepDefinitions,
+                                          List<String> problems) {
+        JsonObject scenario = new JsonObject();
+        scenario.addProperty("name", pickle.getName());
+        JsonArray tags = new JsonArray();
+        pickle.getTags().stream().map(PickleTag::getName).forEach(tags::add);
+        scenario.add("tags", tags);
+        JsonArray steps = new JsonArray();
+        for (PickleStep step : pickle.getSteps()) {
+            List<StepDefinition> matches = stepDefinitions.stream()
+                    .filter(definition -> definition.expression().match(step.getText()) != null)
+                    .toList();
+            JsonObject stepJson = new JsonObject();
+            stepJson.addProperty("text", step.getText());
+            if (matches.size() == 1) {
+                stepJson.addProperty("glue", matches.get(0).location());
+            } else {
+                problems.add(String.format("%s: '%s' in '%s' matches %d step definitions %s",
+                        feature.getFileName(), step.getText(), pickle.getName(), matches.size(),
+                        matches.stream().map(StepDefinition::location).toList()));
+            }
+            steps.add(stepJson);
+        }
+        scenario.add("steps", steps);
+        return scenario;
+    }
+
+    /**
+     * The classes of a package, whether it is in a classes directory or a jar.
+     */
+    private static List<String> classesIn(ClassLoader classLoader, String gluePackage) throws IOException {
+        String packagePath = gluePackage.replace('.', '/');
+        List<String> classes = new ArrayList<>();
+        for (URL location : Collections.list(classLoader.getResources(packagePath))) {
+            if ("jar".equals(location.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) location.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jar = connection.getJarFile()) {
+                    jar.stream()
+                            .map(JarEntry::getName)
+                            .filter(name -> name.startsWith(packagePath + "/") && name.endsWith(".class"))
+                            .map(name -> name.substring(0, name.length() - ".class".length()).replace('/', '.'))
+                            .forEach(classes::add);
+                }
+            } else {
+                Path directory;
+                try {
+                    directory = Path.of(location.toURI());
+                } catch (URISyntaxException e) {
+                    throw new IOException("Cannot read glue package " + gluePackage + " from " + location, e);
+                }
+                for (Path file : filesIn(directory, ".class")) {
+                    String relative = directory.relativize(file).toString().replace(File.separatorChar, '.');
+                    classes.add(gluePackage + "." + relative.substring(0, relative.length() - ".class".length()));
+                }
+            }
+        }
+        if (classes.isEmpty()) {
+            throw new IllegalArgumentException("No glue classes found in package " + gluePackage);
+        }
+        return classes.stream().distinct().sorted().toList();
+    }
+
+    private static List<Path> filesIn(Path directory, String extension) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.toString().endsWith(extension)).sorted().toList();
+        }
+    }
+
+    private static String hashOf(ClassLoader classLoader, List<String> classes, List<Path> files) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String className : classes) {
+                digest.update(className.getBytes(StandardCharsets.UTF_8));
+                try (InputStream bytes = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+                    if (bytes != null) {
+                        digest.update(bytes.readAllBytes());
+                    }
+                }
+            }
+            for (Path file : files) {
+                digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(file));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package todomvc.impact;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The tests a change affects, as written by {@link TestImpact} and read by
+ * {@link ImpactSelectionFilter}.
+ * <p>
+ * One entry per line: {@code all} (run everything), {@code junit:<test class>}
+ * or {@code scenario:<feature path>:<scenario name>}, where the feature path is
+ * relative to {@code src/test/resources/features}, so features with the same file
+ * name in different directories are told apart.
+ * </p>
+ */
+record ImpactSelection(boolean all, Set<String> testClasses, Set<String> scenarios) {
+
+    static ImpactSelection everything() {
+        return new ImpactSelection(true, Set.of(), Set.of());
+    }
+
+    static ImpactSelection read(Path file) throws IOException {
+        boolean all = false;
+        Set<String> testClasses = new TreeSet<>();
+        Set<String> scenarios = new TreeSet<>();
+        for (String line : Files.readAllLines(file)) {
+            if (line.equals("all")) {
+                all = true;
+            } else if (line.startsWith("junit:")) {
+                testClasses.add(line.substring("junit:".length()));
+            } else if (line.startsWith("scenario:")) {
+                scenarios.add(line.substring("scenario:".length()));
+            }
+        }
+        return new ImpactSelection(all, testClasses, scenarios);
+    }
+
+    void write(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (all) {
+            lines.add("all");
+        }
+        testClasses.forEach(testClass -> lines.add("junit:" + testClass));
+        scenarios.forEach(scenario -> lines.add("scenario:" + scenario));
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines);
+    }
+
+    static final Path FEATURES = Path.of("src", "test", "resources", "features");
+
+    static String scenarioKey(String featurePath, String scenarioName) {
+        return featurePath + ":" + scenarioName;
+    }
+
+    /**
+     * A feature file's path relative to the features directory, with {@code /} separators.
+     */
+    static String featurePath(Path relativeToFeatures) {
+        return relativeToFeatures.toString().replace('\\', '/');
+    }
+
+    boolean includesTestClass(String className) {
+        return all || testClasses.contains(className);
+    }
+
+    boolean includesScenario(String featurePath, String scenarioName) {
+        return all || scenarios.contains(scenarioKey(featurePath, scenarioName));
+    }
+}
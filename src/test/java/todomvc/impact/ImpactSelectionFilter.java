@@ -0,0 +1,130 @@
+package todomvc.impact;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Applies a {@link TestImpact} selection to test discovery, so only the affected
+ * JUnit tests and Cucumber scenarios run.
+ * <p>
+ * Registered with the JUnit Platform launcher through {@code META-INF/services}
+ * and inactive unless {@code todomvc.impact.selection} names a selection file,
+ * as the {@code impact} profile does. Working on discovered tests rather than
+ * on failsafe includes lets one selection cover both the Jupiter classes and the
+ * scenarios run by {@code CucumberTestSuite}.
+ * </p>
+ */
+public class ImpactSelectionFilter implements PostDiscoveryFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImpactSelectionFilter.class);
+    private static final String SELECTION_PROPERTY = "todomvc.impact.selection";
+
+    private final ImpactSelection selection;
+
+    public ImpactSelectionFilter() {
+        this.selection = readSelection().orElse(ImpactSelection.everything());
+    }
+
+    private static Optional<ImpactSelection> readSelection() {
+        String file = System.getProperty(SELECTION_PROPERTY);
+        if (file == null || file.isBlank() || !Files.exists(Path.of(file))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ImpactSelection.read(Path.of(file)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the test impact selection " + file, e);
+        }
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (selection.all() || !descriptor.isTest()) {
+            return FilterResult.included("containers are pruned when all their tests are excluded");
+        }
+        Optional<Path> featureFile = featureFileOf(descriptor);
+        if (featureFile.isPresent()) {
+            Path relative = relativeToFeatures(featureFile.get());
+            return relative == null
+                    ? FilterResult.included("feature outside " + ImpactSelection.FEATURES)
+                    : scenarioResult(descriptor, ImpactSelection.featurePath(relative));
+        }
+        return testClassOf(descriptor)
+                .map(testClass -> selection.includesTestClass(testClass)
+                        ? FilterResult.included("affected by the change")
+                        : skipped(descriptor, testClass))
+                .orElseGet(() -> FilterResult.included("not a test class or scenario"));
+    }
+
+    private FilterResult scenarioResult(TestDescriptor descriptor, String featureFile) {
+        for (TestDescriptor current = descriptor; current != null; current = current.getParent().orElse(null)) {
+            if (selection.includesScenario(featureFile, current.getDisplayName())) {
+                return FilterResult.included("affected by the change");
+            }
+        }
+        return skipped(descriptor, featureFile);
+    }
+
+    private static FilterResult skipped(TestDescriptor descriptor, String in) {
+        LOG.info("Skipping '{}' in {}: not affected by the change", descriptor.getDisplayName(), in);
+        return FilterResult.excluded("not affected by the change");
+    }
+
+    private static Optional<Path> featureFileOf(TestDescriptor descriptor) {
+        Optional<TestSource> source = descriptor.getSource();
+        if (source.isPresent() && source.get() instanceof FileSource file && file.getFile().getName().endsWith(".feature")) {
+            return Optional.of(file.getFile().toPath());
+        }
+        if (source.isPresent() && source.get() instanceof ClasspathResourceSource resource
+                && resource.getClasspathResourceName().endsWith(".feature")) {
+            return Optional.of(Path.of(resource.getClasspathResourceName()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The feature's path under the features directory, whether it was found on the
+     * file system or as a {@code features/...} classpath resource, or null.
+     */
+    private static Path relativeToFeatures(Path feature) {
+        Path featuresRoot = ImpactSelection.FEATURES.toAbsolutePath();
+        if (feature.isAbsolute()) {
+            return feature.normalize().startsWith(featuresRoot) ? featuresRoot.relativize(feature.normalize()) : null;
+        }
+        return feature.getNameCount() > 1 && feature.getName(0).toString().equals("features")
+                ? feature.subpath(1, feature.getNameCount())
+                : null;
+    }
+
+    private static Optional<String> testClassOf(TestDescriptor descriptor) {
+        for (TestDescriptor current = descriptor; current != null; current = current.getParent().orElse(null)) {
+            Optional<TestSource> source = current.getSource();
+            if (source.isPresent() && source.get() instanceof MethodSource method) {
+                return Optional.of(outermost(method.getClassName()));
+            }
+            if (source.isPresent() && source.get() instanceof ClassSource testClass) {
+                return Optional.of(outermost(testClass.getClassName()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String outermost(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+}
@@ -0,0 +1,102 @@
+package todomvc.impact;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Which test source classes refer to which others, read statically from the sources.
+ * <p>
+ * A class depends on every other class of the test tree whose simple name appears
+ * in its code (comments removed). This over-approximates, which is the safe
+ * direction for test selection: a test may be run needlessly, but a test that
+ * uses a changed page object, task, question or Target is never skipped.
+ * </p>
+ */
+final class SourceDependencies {
+
+    private static final Pattern COMMENTS = Pattern.compile("//[^\\n]*|/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern IDENTIFIER = Pattern.compile("\\b[A-Z][A-Za-z0-9_]*\\b");
+
+    private final Map<String, String> classBySimpleName = new HashMap<>();
+    private final Map<String, String> code = new TreeMap<>();
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+
+    private SourceDependencies() {
+    }
+
+    static SourceDependencies of(Path sourceRoot) throws IOException {
+        SourceDependencies sources = new SourceDependencies();
+        try (Stream<Path> files = Files.walk(sourceRoot)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".java")).toList()) {
+                String className = classNameOf(sourceRoot.relativize(file));
+                sources.classBySimpleName.put(simpleName(className), className);
+                sources.code.put(className, COMMENTS.matcher(Files.readString(file)).replaceAll(""));
+            }
+        }
+        sources.code.forEach((className, source) -> sources.dependencies.put(className, sources.referencesIn(source, className)));
+        return sources;
+    }
+
+    Set<String> classes() {
+        return code.keySet();
+    }
+
+    String classNamed(String simpleName) {
+        return classBySimpleName.get(simpleName);
+    }
+
+    String code(String className) {
+        return code.get(className);
+    }
+
+    /**
+     * The test classes referred to in a piece of code, such as a method body.
+     */
+    Set<String> referencesIn(String source, String exceptClass) {
+        Set<String> references = new TreeSet<>();
+        Matcher identifiers = IDENTIFIER.matcher(source);
+        while (identifiers.find()) {
+            String className = classBySimpleName.get(identifiers.group());
+            if (className != null && !className.equals(exceptClass)) {
+                references.add(className);
+            }
+        }
+        return references;
+    }
+
+    /**
+     * The given classes and every class they depend on, directly or indirectly.
+     */
+    Set<String> closureOf(Set<String> classes) {
+        Set<String> closure = new LinkedHashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>(classes);
+        while (!toVisit.isEmpty()) {
+            String className = toVisit.pop();
+            if (closure.add(className)) {
+                toVisit.addAll(dependencies.getOrDefault(className, Set.of()));
+            }
+        }
+        return closure;
+    }
+
+    static String classNameOf(Path relativeSource) {
+        String path = relativeSource.toString().replace('\\', '/');
+        return path.substring(0, path.length() - ".java".length()).replace('/', '.');
+    }
+
+    static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
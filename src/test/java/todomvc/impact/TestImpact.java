@@ -0,0 +1,410 @@
+package todomvc.impact;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Selects the tests affected by a change, from a static dependency map and a git diff.
+ * <p>
+ * Each JUnit test class depends on the classes it refers to, directly or through
+ * page objects, steps, tasks, questions and Targets (see {@link SourceDependencies}).
+ * Each Cucumber scenario depends on its feature file lines, the step-definition
+ * methods its steps match (from the {@code CucumberIndex}), and the classes those
+ * methods and the glue hooks refer to. A test is selected when anything it depends
+ * on appears in {@code git diff <base>} or is untracked. Changes to the build or
+ * to shared configuration select everything; documentation changes select nothing.
+ * </p>
+ * <p>
+ * The selection is written to {@code target/impact/selection.txt}, which
+ * {@link ImpactSelectionFilter} applies to both failsafe executions, and explained
+ * in {@code target/impact/impact.md} with the tests that were skipped.
+ * </p>
+ * <p>
+ * Usage: {@code TestImpact [base-ref]}, default {@code HEAD} (uncommitted changes).
+ * Run it with {@code mvn verify -Pimpact -Dimpact.base=origin/main}.
+ * </p>
+ */
+public final class TestImpact {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TestImpact.class);
+
+    private static final Path SOURCE_ROOT = Path.of("src", "test", "java");
+    private static final Path FEATURES = ImpactSelection.FEATURES;
+    private static final Path APP_RESOURCES = Path.of("src", "test", "resources", "todomvc-app");
+    private static final Path CUCUMBER_INDEX = Path.of("target", "cucumber-index", "index.json");
+    private static final Path OUTPUT = Path.of("target", "impact");
+
+    private static final String GLUE_PACKAGE = "todomvc.cucumber";
+    private static final String CUCUMBER_SUITE = "todomvc.cucumber.CucumberTestSuite";
+    private static final String LOCAL_APP = "todomvc.app.LocalTodoMvcApp";
+
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+    private static final Pattern STEP_METHOD = Pattern.compile("^\\s+public\\s+\\w+\\s+(\\w+)\\s*\\(");
+    private static final Pattern SCENARIO = Pattern.compile("^\\s*(Scenario|Scenario Outline|Example|Scenario Template):\\s*(.*)$");
+    private static final Pattern BACKGROUND = Pattern.compile("^\\s*(Background|Rule):");
+
+    private final SourceDependencies sources;
+    private final Map<Path, Set<Integer>> changedLines;
+    private final Set<String> changedClasses = new TreeSet<>();
+    private final Set<String> changedStepMethods = new TreeSet<>();
+    private final Set<String> changedScenarios = new TreeSet<>();
+    private final Set<String> changedFeatures = new TreeSet<>();
+    private final List<String> reasons = new ArrayList<>();
+    private boolean everything;
+
+    private TestImpact(SourceDependencies sources, Map<Path, Set<Integer>> changedLines) {
+        this.sources = sources;
+        this.changedLines = changedLines;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String base = args.length > 0 && !args[0].isBlank() ? args[0] : "HEAD";
+        TestImpact impact = new TestImpact(SourceDependencies.of(SOURCE_ROOT), changedLinesSince(base));
+        impact.classifyChanges();
+        impact.select(base);
+    }
+
+    /**
+     * Changed files and the (new) line numbers changed in each; an empty set
+     * means the whole file.
+     */
+    private static Map<Path, Set<Integer>> changedLinesSince(String base) throws IOException, InterruptedException {
+        Map<Path, Set<Integer>> changes = new TreeMap<>();
+        Path current = null;
+        for (String line : git("diff", "--unified=0", "--no-color", "--no-renames", base, "--")) {
+            if (line.startsWith("diff --git ")) {
+                current = Path.of(line.substring(line.lastIndexOf(" b/") + 3));
+                changes.put(current, new TreeSet<>());
+            } else if (current != null) {
+                Matcher hunk = HUNK.matcher(line);
+                if (hunk.find()) {
+                    int start = Integer.parseInt(hunk.group(1));
+                    int count = hunk.group(2) == null ? 1 : Integer.parseInt(hunk.group(2));
+                    for (int number = start; number <= start + Math.max(count, 1) - 1; number++) {
+                        changes.get(current).add(number);
+                    }
+                }
+            }
+        }
+        for (String untracked : git("ls-files", "--others", "--exclude-standard")) {
+            changes.put(Path.of(untracked), new TreeSet<>());
+        }
+        return changes;
+    }
+
+    private static List<String> git(String... arguments) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("git"));
+        command.addAll(List.of(arguments));
+        Process git = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output;
+        try (InputStream out = git.getInputStream()) {
+            output = new String(out.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        if (git.waitFor() != 0) {
+            throw new IllegalStateException(String.join(" ", command) + " failed:\n" + output);
+        }
+        return output.lines().toList();
+    }
+
+    private void classifyChanges() throws IOException {
+        for (Map.Entry<Path, Set<Integer>> change : changedLines.entrySet()) {
+            Path file = change.getKey();
+            String name = file.getFileName().toString();
+            if (name.endsWith(".md")) {
+                continue;
+            }
+            if (file.startsWith(SOURCE_ROOT) && name.endsWith(".java")) {
+                String className = SourceDependencies.classNameOf(SOURCE_ROOT.relativize(file));
+                if (className.startsWith(GLUE_PACKAGE + ".") && Files.exists(file) && hasStepDefinitions(file)) {
+                    classifyStepDefinitionChange(className, file, change.getValue());
+                } else {
+                    changedClasses.add(className);
+                    reasons.add(file + " changes " + className);
+                }
+            } else if (file.startsWith(FEATURES) && name.endsWith(".feature")) {
+                classifyFeatureChange(file, change.getValue());
+            } else if (file.startsWith(APP_RESOURCES)) {
+                changedClasses.add(LOCAL_APP);
+                reasons.add(file + " changes the local app served by " + LOCAL_APP);
+            } else {
+                everything = true;
+                reasons.add(file + " may affect any test, so everything runs");
+            }
+        }
+    }
+
+    private static boolean hasStepDefinitions(Path file) throws IOException {
+        return Pattern.compile("@(Given|When|Then|And|But)\\(").matcher(Files.readString(file)).find();
+    }
+
+    /**
+     * Map changed lines of a step-definition class to the methods they belong to.
+     * Annotations and blank lines above a method count as part of it; any other
+     * change (imports, fields) affects every step.
+     */
+    private void classifyStepDefinitionChange(String className, Path file, Set<Integer> lines) throws IOException {
+        Map<String, int[]> methods = methodLines(Files.readAllLines(file));
+        if (lines.isEmpty()) {
+            changedClasses.add(className);
+            reasons.add(file + " is new, so every scenario using it runs");
+            return;
+        }
+        for (int line : lines) {
+            String method = methods.entrySet().stream()
+                    .filter(entry -> line >= entry.getValue()[0] && line <= entry.getValue()[1])
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(null);
+            if (method == null) {
+                changedClasses.add(className);
+                reasons.add(file + ":" + line + " is outside any step, so every scenario using it runs");
+                return;
+            }
+            if (changedStepMethods.add(SourceDependencies.simpleName(className) + "." + method)) {
+                reasons.add(file + ":" + line + " changes step " + method);
+            }
+        }
+    }
+
+    /**
+     * Each public method's line range, from the line after the previous method
+     * ends to the method's closing brace.
+     */
+    private static Map<String, int[]> methodLines(List<String> lines) {
+        Map<String, int[]> methods = new LinkedHashMap<>();
+        int regionStart = 1;
+        for (int index = 0; index < lines.size(); index++) {
+            Matcher method = STEP_METHOD.matcher(lines.get(index));
+            if (!method.find()) {
+                continue;
+            }
+            int depth = 0;
+            boolean opened = false;
+            int end = index;
+            for (; end < lines.size(); end++) {
+                for (char c : lines.get(end).toCharArray()) {
+                    if (c == '{') {
+                        depth++;
+                        opened = true;
+                    } else if (c == '}') {
+                        depth--;
+                    }
+                }
+                if (opened && depth == 0) {
+                    break;
+                }
+            }
+            if (regionStart == 1) {
+                regionStart = firstAnnotationAbove(lines, index);
+            }
+            methods.put(method.group(1), new int[]{regionStart, end + 1});
+            regionStart = end + 2;
+            index = end;
+        }
+        return methods;
+    }
+
+    private static int firstAnnotationAbove(List<String> lines, int methodIndex) {
+        int index = methodIndex;
+        while (index > 0 && lines.get(index - 1).trim().startsWith("@")) {
+            index--;
+        }
+        return index + 1;
+    }
+
+    private void classifyFeatureChange(Path file, Set<Integer> lines) throws IOException {
+        String featureName = ImpactSelection.featurePath(FEATURES.relativize(file));
+        if (lines.isEmpty() || !Files.exists(file)) {
+            changedFeatures.add(featureName);
+            reasons.add(file + " is new or removed, so all its scenarios run");
+            return;
+        }
+        List<String> featureLines = Files.readAllLines(file);
+        for (int line : lines) {
+            String scenario = null;
+            for (int index = Math.min(line, featureLines.size()) - 1; index >= 0; index--) {
+                Matcher scenarioLine = SCENARIO.matcher(featureLines.get(index));
+                if (scenarioLine.find()) {
+                    scenario = scenarioLine.group(2).trim();
+                    break;
+                }
+                if (BACKGROUND.matcher(featureLines.get(index)).find()) {
+                    break;
+                }
+            }
+            if (scenario == null) {
+                changedFeatures.add(featureName);
+                reasons.add(file + ":" + line + " is in the feature header or Background, so all its scenarios run");
+                return;
+            }
+            if (changedScenarios.add(ImpactSelection.scenarioKey(featureName, scenario))) {
+                reasons.add(file + ":" + line + " changes scenario '" + scenario + "'");
+            }
+        }
+    }
+
+    private void select(String base) throws IOException {
+        Set<String> selectedClasses = new TreeSet<>();
+        Set<String> skippedClasses = new TreeSet<>();
+        for (String testClass : junitTestClasses()) {
+            Set<String> dependsOn = new HashSet<>(sources.closureOf(Set.of(testClass)));
+            dependsOn.retainAll(changedClasses);
+            (everything || !dependsOn.isEmpty() ? selectedClasses : skippedClasses).add(testClass);
+        }
+
+        Set<String> selectedScenarios = new TreeSet<>();
+        Set<String> skippedScenarios = new TreeSet<>();
+        Set<String> hookDependencies = sources.closureOf(glueHooks());
+        for (Map.Entry<String, Set<String>> scenario : scenarioSteps().entrySet()) {
+            boolean affected = everything || changedScenarios.contains(scenario.getKey())
+                    || changedFeatures.contains(scenario.getKey().substring(0, scenario.getKey().indexOf(':')))
+                    || scenario.getValue().stream().anyMatch(changedStepMethods::contains)
+                    || dependsOnChangedClass(scenario.getValue(), hookDependencies);
+            (affected ? selectedScenarios : skippedScenarios).add(scenario.getKey());
+        }
+
+        ImpactSelection selection = everything
+                ? ImpactSelection.everything()
+                : new ImpactSelection(false, selectedClasses, selectedScenarios);
+        selection.write(OUTPUT.resolve("selection.txt"));
+        writeReport(base, selectedClasses, skippedClasses, selectedScenarios, skippedScenarios);
+        LOG.info("Test impact since {}: {} of {} test classes and {} of {} scenarios selected ({})",
+                base, selectedClasses.size(), selectedClasses.size() + skippedClasses.size(),
+                selectedScenarios.size(), selectedScenarios.size() + skippedScenarios.size(),
+                OUTPUT.resolve("impact.md"));
+    }
+
+    private Set<String> junitTestClasses() {
+        Set<String> testClasses = new TreeSet<>();
+        for (String className : sources.classes()) {
+            String code = sources.code(className);
+            if (className.endsWith("Test") && !className.equals(CUCUMBER_SUITE)
+                    && !code.contains("abstract class " + SourceDependencies.simpleName(className))) {
+                testClasses.add(className);
+            }
+        }
+        return testClasses;
+    }
+
+    /**
+     * Glue classes without step definitions, such as hooks and casts, which every
+     * scenario runs through.
+     */
+    private Set<String> glueHooks() {
+        Set<String> hooks = new TreeSet<>();
+        for (String className : sources.classes()) {
+            if (className.startsWith(GLUE_PACKAGE + ".")
+                    && !Pattern.compile("@(Given|When|Then|And|But)\\(").matcher(sources.code(className)).find()) {
+                hooks.add(className);
+            }
+        }
+        return hooks;
+    }
+
+    /**
+     * Each indexed scenario (feature file name and scenario name) with the
+     * step-definition methods its steps use.
+     */
+    private Map<String, Set<String>> scenarioSteps() throws IOException {
+        Map<String, Set<String>> scenarios = new TreeMap<>();
+        if (!Files.exists(CUCUMBER_INDEX)) {
+            LOG.warn("No Cucumber index at {}: run the build with -Pcucumber-index first", CUCUMBER_INDEX);
+            return scenarios;
+        }
+        JsonObject index = new Gson().fromJson(Files.readString(CUCUMBER_INDEX), JsonObject.class);
+        for (JsonElement feature : index.getAsJsonArray("features")) {
+            // The index records URIs relative to the resources directory: features/...
+            Path uri = Path.of(feature.getAsJsonObject().get("uri").getAsString());
+            String featureName = ImpactSelection.featurePath(uri.subpath(1, uri.getNameCount()));
+            for (JsonElement scenario : feature.getAsJsonObject().getAsJsonArray("scenarios")) {
+                String key = ImpactSelection.scenarioKey(featureName, scenario.getAsJsonObject().get("name").getAsString());
+                Set<String> steps = scenarios.computeIfAbsent(key, name -> new TreeSet<>());
+                for (JsonElement step : scenario.getAsJsonObject().getAsJsonArray("steps")) {
+                    JsonElement glue = step.getAsJsonObject().get("glue");
+                    if (glue != null) {
+                        steps.add(glue.getAsString());
+                    }
+                }
+            }
+        }
+        return scenarios;
+    }
+
+    private boolean dependsOnChangedClass(Set<String> stepMethods, Set<String> hookDependencies) {
+        Set<String> used = new HashSet<>(hookDependencies);
+        for (String stepMethod : stepMethods) {
+            String glueClass = sources.classNamed(stepMethod.substring(0, stepMethod.indexOf('.')));
+            if (glueClass == null) {
+                continue;
+            }
+            used.add(glueClass);
+            String body = methodBody(sources.code(glueClass), stepMethod.substring(stepMethod.indexOf('.') + 1), new HashSet<>());
+            used.addAll(sources.closureOf(sources.referencesIn(body, glueClass)));
+        }
+        return used.stream().anyMatch(changedClasses::contains);
+    }
+
+    /**
+     * A method's body, including the bodies of other methods of the same class it calls.
+     */
+    private static String methodBody(String code, String method, Set<String> visited) {
+        if (!visited.add(method)) {
+            return "";
+        }
+        Matcher declaration = Pattern.compile("\\b" + Pattern.quote(method) + "\\s*\\([^)]*\\)\\s*\\{").matcher(code);
+        if (!declaration.find()) {
+            return "";
+        }
+        int depth = 1;
+        int end = declaration.end();
+        while (end < code.length() && depth > 0) {
+            char c = code.charAt(end++);
+            depth += c == '{' ? 1 : c == '}' ? -1 : 0;
+        }
+        StringBuilder body = new StringBuilder(code.substring(declaration.end(), end));
+        Matcher calls = Pattern.compile("\\b([a-z]\\w*)\\s*\\(").matcher(body.toString());
+        while (calls.find()) {
+            body.append(methodBody(code, calls.group(1), visited));
+        }
+        return body.toString();
+    }
+
+    private void writeReport(String base, Set<String> selectedClasses, Set<String> skippedClasses,
+                             Set<String> selectedScenarios, Set<String> skippedScenarios) throws IOException {
+        StringBuilder report = new StringBuilder("# Test impact since `" + base + "`\n\n## Changes\n\n");
+        if (reasons.isEmpty()) {
+            report.append("No test-relevant changes.\n");
+        }
+        reasons.forEach(reason -> report.append("- ").append(reason).append('\n'));
+        section(report, "Selected test classes", selectedClasses);
+        section(report, "Skipped test classes", skippedClasses);
+        section(report, "Selected scenarios", selectedScenarios);
+        section(report, "Skipped scenarios", skippedScenarios);
+        Files.createDirectories(OUTPUT);
+        Files.writeString(OUTPUT.resolve("impact.md"), report);
+    }
+
+    private static void section(StringBuilder report, String title, Set<String> entries) {
+        report.append("\n## ").append(title).append(" (").append(entries.size()).append(")\n\n");
+        entries.forEach(entry -> report.append("- ").append(entry).append('\n'));
+    }
+}
@@ -0,0 +1,146 @@
+package todomvc.load;
+
+import com.microsoft.playwright.BrowserContext;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Performable;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import todomvc.app.TodoMvcApp;
+import todomvc.browser.BrowserPool;
+import todomvc.browser.BrowserProfile;
+import todomvc.screenplay.tasks.OpenTodoMvcApp;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the same Screenplay tasks for several actors at once, each in its own
+ * browser context, and measures how long each actor takes.
+ * <p>
+ * Every actor first opens the app, then waits until all actors are ready, so the
+ * timed tasks start together and contend for the app and the browser. Usage:
+ * <pre>
+ *   SessionResults results = ConcurrentSessions.of(4)
+ *       .against(app.url())
+ *       .performing(AddATodoItem.withItems("Buy milk", "Walk the dog"),
+ *                   Complete.todoItem("Buy milk"),
+ *                   ClearCompletedTodos.fromTheList())
+ *       .run();
+ * </pre>
+ * Each actor gets a worker thread and a browser from {@link BrowserPool}, so all
+ * actors share one browser when the build provides a shared browser server.
+ * </p>
+ */
+public final class ConcurrentSessions {
+
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+
+    private final int actors;
+    private String url = TodoMvcApp.url();
+    private String engine = "chromium";
+    private List<Performable> tasks = List.of();
+
+    private ConcurrentSessions(int actors) {
+        this.actors = actors;
+    }
+
+    public static ConcurrentSessions of(int actors) {
+        if (actors < 1) {
+            throw new IllegalArgumentException("At least one actor is needed, not " + actors);
+        }
+        return new ConcurrentSessions(actors);
+    }
+
+    public ConcurrentSessions against(String url) {
+        this.url = url;
+        return this;
+    }
+
+    public ConcurrentSessions inBrowser(String engine) {
+        this.engine = engine;
+        return this;
+    }
+
+    public ConcurrentSessions performing(Performable... tasks) {
+        this.tasks = List.of(tasks);
+        return this;
+    }
+
+    public SessionResults run() throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(actors);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(actors,
+                runnable -> new Thread(runnable, "concurrent-actor-" + threadNumber.incrementAndGet()));
+        try {
+            List<Future<SessionResults.ActorSession>> sessions = new ArrayList<>();
+            for (int i = 1; i <= actors; i++) {
+                String actorName = "Actor " + i;
+                sessions.add(workers.submit(() -> session(actorName, ready, start)));
+            }
+            if (!ready.await(READY_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Actors were not ready within " + READY_TIMEOUT);
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+
+            List<SessionResults.ActorSession> results = new ArrayList<>();
+            for (Future<SessionResults.ActorSession> session : sessions) {
+                results.add(outcomeOf(session));
+            }
+            return new SessionResults(results, Duration.ofNanos(System.nanoTime() - startedAt));
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private SessionResults.ActorSession session(String actorName, CountDownLatch ready, CountDownLatch start)
+            throws InterruptedException {
+        List<SessionResults.TaskTiming> timings = new ArrayList<>();
+        BrowserContext context = null;
+        boolean counted = false;
+        try {
+            context = BrowserProfile.current().newContext(BrowserPool.forThisThread(engine));
+            Actor actor = Actor.named(actorName).whoCan(BrowseTheWebWithPlaywright.withPage(context.newPage()));
+            actor.attemptsTo(OpenTodoMvcApp.at(url));
+
+            ready.countDown();
+            counted = true;
+            start.await();
+
+            for (Performable task : tasks) {
+                long taskStartedAt = System.nanoTime();
+                actor.attemptsTo(task);
+                timings.add(new SessionResults.TaskTiming(task.getClass().getSimpleName(),
+                        Duration.ofNanos(System.nanoTime() - taskStartedAt)));
+            }
+            return new SessionResults.ActorSession(actorName, timings, null);
+        } catch (RuntimeException | AssertionError failure) {
+            return new SessionResults.ActorSession(actorName, timings, failure);
+        } finally {
+            if (!counted) {
+                ready.countDown();
+            }
+            if (context != null) {
+                context.close();
+            }
+            BrowserPool.releaseThisThread();
+        }
+    }
+
+    private static SessionResults.ActorSession outcomeOf(Future<SessionResults.ActorSession> session)
+            throws InterruptedException {
+        try {
+            return session.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Actor session failed to run", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package todomvc.load;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples for one task, collected from many threads, with percentiles
+ * computed on demand.
+ */
+final class LatencySamples {
+
+    private long[] nanos = new long[256];
+    private int size;
+    private int errors;
+
+    synchronized void record(long latencyNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = latencyNanos;
+    }
+
+    synchronized void recordError() {
+        errors++;
+    }
+
+    synchronized int count() {
+        return size;
+    }
+
+    synchronized int errors() {
+        return errors;
+    }
+
+    /**
+     * Nearest-rank percentiles, in milliseconds, in the order requested.
+     */
+    synchronized double[] percentilesMillis(double... percentiles) {
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (size == 0) {
+                result[i] = Double.NaN;
+                continue;
+            }
+            int rank = (int) Math.ceil(percentiles[i] / 100 * size);
+            result[i] = sorted[Math.max(0, Math.min(size, rank) - 1)] / 1e6;
+        }
+        return result;
+    }
+}
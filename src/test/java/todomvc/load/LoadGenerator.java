@@ -0,0 +1,210 @@
+package todomvc.load;
+
+import com.microsoft.playwright.BrowserContext;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Performable;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import todomvc.app.LocalTodoMvcApp;
+import todomvc.browser.BrowserPool;
+import todomvc.browser.BrowserProfile;
+import todomvc.screenplay.tasks.AddATodoItem;
+import todomvc.screenplay.tasks.ClearCompletedTodos;
+import todomvc.screenplay.tasks.Complete;
+import todomvc.screenplay.tasks.Delete;
+import todomvc.screenplay.tasks.FilterTodos;
+import todomvc.screenplay.tasks.OpenTodoMvcApp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the Screenplay tasks of a typical TodoMVC user journey as a load test.
+ * <p>
+ * Each virtual user is a worker thread with a browser from {@link BrowserPool}.
+ * It repeats the journey in a fresh browser context, pausing for the think time
+ * between tasks, until the test duration is over. Users start one by one over the
+ * ramp-up period. Every task's latency is recorded, and the throughput and
+ * latency percentiles of each task are logged and written to
+ * {@code target/load/load-summary.csv} and {@code target/load/load-summary.md}.
+ * </p>
+ * <p>
+ * Unless {@code todomvc.url} is set, the load runs against {@link LocalTodoMvcApp},
+ * so the public demo site is not loaded by accident.
+ * </p>
+ * <p>
+ * Settings (system properties):
+ * <ul>
+ *   <li>{@code load.concurrency} - number of virtual users, default 4</li>
+ *   <li>{@code load.ramp-up-seconds} - time over which users start, default 10</li>
+ *   <li>{@code load.duration-seconds} - time users keep repeating the journey after starting, default 60</li>
+ *   <li>{@code load.think-time-ms} - pause between tasks, default 500</li>
+ *   <li>{@code load.engine} - browser engine, default {@code chromium}</li>
+ *   <li>{@code load.output-dir} - where the summary is written, default {@code target/load}</li>
+ * </ul>
+ * Run it with {@code mvn verify -Pload}.
+ * </p>
+ */
+public final class LoadGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadGenerator.class);
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 100};
+
+    private final int concurrency;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final Duration thinkTime;
+    private final String engine;
+    private final Map<String, LatencySamples> samples = new ConcurrentHashMap<>();
+    private final AtomicInteger journeys = new AtomicInteger();
+    private Duration elapsed = Duration.ZERO;
+
+    LoadGenerator(int concurrency, Duration rampUp, Duration duration, Duration thinkTime, String engine) {
+        this.concurrency = concurrency;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.thinkTime = thinkTime;
+        this.engine = engine;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGenerator generator = new LoadGenerator(
+                Integer.getInteger("load.concurrency", 4),
+                Duration.ofSeconds(Long.getLong("load.ramp-up-seconds", 10)),
+                Duration.ofSeconds(Long.getLong("load.duration-seconds", 60)),
+                Duration.ofMillis(Long.getLong("load.think-time-ms", 500)),
+                System.getProperty("load.engine", "chromium")
+        );
+        Path outputDirectory = Path.of(System.getProperty("load.output-dir", "target/load"));
+
+        String url = System.getProperty("todomvc.url");
+        if (url != null) {
+            generator.run(url).write(outputDirectory);
+            return;
+        }
+        try (LocalTodoMvcApp app = LocalTodoMvcApp.start()) {
+            generator.run(app.url()).write(outputDirectory);
+        }
+    }
+
+    /**
+     * The journey each virtual user repeats, after opening the app.
+     */
+    static List<Performable> journey() {
+        return List.of(
+                AddATodoItem.withItems("Buy milk", "Walk the dog", "Pay bills"),
+                Complete.todoItem("Buy milk"),
+                FilterTodos.toShowActive(),
+                FilterTodos.toShowAll(),
+                Delete.theTodoItem("Walk the dog"),
+                ClearCompletedTodos.fromTheList()
+        );
+    }
+
+    LoadGenerator run(String url) throws InterruptedException {
+        LOG.info("Load test against {}: {} users, {} s ramp-up, {} s duration, {} ms think time",
+                url, concurrency, rampUp.toSeconds(), duration.toSeconds(), thinkTime.toMillis());
+        AtomicInteger userNumber = new AtomicInteger();
+        ExecutorService users = Executors.newFixedThreadPool(concurrency,
+                runnable -> new Thread(runnable, "virtual-user-" + userNumber.incrementAndGet()));
+        long startedAt = System.nanoTime();
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int user = 0; user < concurrency; user++) {
+                Duration startDelay = rampUp.multipliedBy(user).dividedBy(concurrency);
+                running.add(users.submit(() -> virtualUser(url, startDelay)));
+            }
+            for (Future<?> user : running) {
+                try {
+                    user.get();
+                } catch (ExecutionException e) {
+                    LOG.error("Virtual user stopped", e.getCause());
+                }
+            }
+        } finally {
+            users.shutdownNow();
+            users.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        return this;
+    }
+
+    private Void virtualUser(String url, Duration startDelay) throws InterruptedException {
+        Thread.sleep(startDelay.toMillis());
+        long deadline = System.nanoTime() + duration.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                BrowserContext context = BrowserProfile.current().newContext(BrowserPool.forThisThread(engine));
+                try {
+                    Actor user = Actor.named(Thread.currentThread().getName())
+                            .whoCan(BrowseTheWebWithPlaywright.withPage(context.newPage()));
+                    timed(user, OpenTodoMvcApp.at(url));
+                    for (Performable task : journey()) {
+                        Thread.sleep(thinkTime.toMillis());
+                        timed(user, task);
+                    }
+                    journeys.incrementAndGet();
+                } catch (RuntimeException | AssertionError failedJourney) {
+                    LOG.debug("Journey failed for {}", Thread.currentThread().getName(), failedJourney);
+                } finally {
+                    context.close();
+                }
+            }
+        } finally {
+            BrowserPool.releaseThisThread();
+        }
+        return null;
+    }
+
+    private void timed(Actor user, Performable task) {
+        LatencySamples taskSamples = samples.computeIfAbsent(task.getClass().getSimpleName(), name -> new LatencySamples());
+        long startedAt = System.nanoTime();
+        try {
+            user.attemptsTo(task);
+            taskSamples.record(System.nanoTime() - startedAt);
+        } catch (RuntimeException | AssertionError failure) {
+            taskSamples.recordError();
+            throw failure;
+        }
+    }
+
+    void write(Path outputDirectory) throws IOException {
+        double seconds = elapsed.toNanos() / 1e9;
+        StringBuilder csv = new StringBuilder("task,count,errors,throughput-per-s,p50-ms,p90-ms,p95-ms,p99-ms,max-ms\n");
+        StringBuilder markdown = new StringBuilder(String.format(Locale.ROOT,
+                "# Load test%n%n%d users, %d s ramp-up, %d s duration, %d ms think time: %d journeys in %.1f s%n%n"
+                        + "| Task | Count | Errors | Throughput (/s) | p50 (ms) | p90 (ms) | p95 (ms) | p99 (ms) | Max (ms) |%n"
+                        + "|---|---|---|---|---|---|---|---|---|%n",
+                concurrency, rampUp.toSeconds(), duration.toSeconds(), thinkTime.toMillis(), journeys.get(), seconds));
+
+        for (Map.Entry<String, LatencySamples> task : new TreeMap<>(samples).entrySet()) {
+            LatencySamples taskSamples = task.getValue();
+            double[] p = taskSamples.percentilesMillis(PERCENTILES);
+            double throughput = seconds == 0 ? 0 : taskSamples.count() / seconds;
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.1f,%.1f,%.1f,%.1f,%.1f%n", task.getKey(),
+                    taskSamples.count(), taskSamples.errors(), throughput, p[0], p[1], p[2], p[3], p[4]));
+            markdown.append(String.format(Locale.ROOT, "| %s | %d | %d | %.2f | %.0f | %.0f | %.0f | %.0f | %.0f |%n", task.getKey(),
+                    taskSamples.count(), taskSamples.errors(), throughput, p[0], p[1], p[2], p[3], p[4]));
+        }
+
+        Files.createDirectories(outputDirectory);
+        Files.writeString(outputDirectory.resolve("load-summary.csv"), csv);
+        Files.writeString(outputDirectory.resolve("load-summary.md"), markdown);
+        LOG.info("Load test summary ({}):\n{}", outputDirectory.resolve("load-summary.md"), markdown);
+    }
+}
@@ -0,0 +1,63 @@
+package todomvc.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Timings from a {@link ConcurrentSessions} run: per-actor task latencies and the
+ * aggregate throughput of all actors together.
+ */
+public record SessionResults(List<ActorSession> sessions, Duration wallClock) {
+
+    public record TaskTiming(String task, Duration latency) {}
+
+    public record ActorSession(String actor, List<TaskTiming> taskTimings, Throwable failure) {
+
+        public Duration total() {
+            return taskTimings.stream().map(TaskTiming::latency).reduce(Duration.ZERO, Duration::plus);
+        }
+
+        public Duration meanLatency() {
+            return taskTimings.isEmpty() ? Duration.ZERO : total().dividedBy(taskTimings.size());
+        }
+
+        public Duration maxLatency() {
+            return taskTimings.stream().map(TaskTiming::latency).max(Duration::compareTo).orElse(Duration.ZERO);
+        }
+    }
+
+    public int completedTasks() {
+        return sessions.stream().mapToInt(session -> session.taskTimings().size()).sum();
+    }
+
+    /**
+     * Tasks completed per second by all actors, from the barrier start to the last
+     * actor finishing.
+     */
+    public double throughput() {
+        return wallClock.isZero() ? 0 : completedTasks() / (wallClock.toNanos() / 1e9);
+    }
+
+    public List<Throwable> failures() {
+        return sessions.stream().map(ActorSession::failure).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * A plain-text table for the Serenity report.
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "%-12s %8s %12s %12s %12s%n",
+                "Actor", "Tasks", "Total (ms)", "Mean (ms)", "Max (ms)"));
+        for (ActorSession session : sessions) {
+            summary.append(String.format(Locale.ROOT, "%-12s %8d %12d %12d %12d%s%n",
+                    session.actor(), session.taskTimings().size(), session.total().toMillis(),
+                    session.meanLatency().toMillis(), session.maxLatency().toMillis(),
+                    session.failure() == null ? "" : "  FAILED: " + session.failure().getMessage()));
+        }
+        summary.append(String.format(Locale.ROOT, "%nActors: %d, tasks: %d, wall clock: %d ms, throughput: %.2f tasks/s%n",
+                sessions.size(), completedTasks(), wallClock.toMillis(), throughput()));
+        return summary.toString();
+    }
+}
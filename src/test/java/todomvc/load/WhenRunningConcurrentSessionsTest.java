@@ -0,0 +1,46 @@
+package todomvc.load;
+
+import net.serenitybdd.core.Serenity;
+import net.serenitybdd.junit5.SerenityJUnit5Extension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import todomvc.app.LocalTodoMvcApp;
+import todomvc.screenplay.tasks.AddATodoItem;
+import todomvc.screenplay.tasks.ClearCompletedTodos;
+import todomvc.screenplay.tasks.Complete;
+import todomvc.screenplay.tasks.Delete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs several actors against the local stand-in app at the same time.
+ */
+@ExtendWith(SerenityJUnit5Extension.class)
+@DisplayName("Concurrent TodoMVC sessions")
+class WhenRunningConcurrentSessionsTest {
+
+    @Test
+    @DisplayName("Several actors can manage their own todo lists at the same time")
+    void severalActorsCanManageTheirListsConcurrently() throws Exception {
+        try (LocalTodoMvcApp app = LocalTodoMvcApp.start()) {
+            SessionResults results = ConcurrentSessions.of(3)
+                .against(app.url())
+                .performing(
+                    AddATodoItem.withItems("Buy milk", "Walk the dog", "Pay bills"),
+                    Complete.todoItem("Buy milk"),
+                    Delete.theTodoItem("Walk the dog"),
+                    ClearCompletedTodos.fromTheList()
+                )
+                .run();
+
+            Serenity.recordReportData().withTitle("Concurrent sessions").andContents(results.summary());
+
+            assertThat(results.failures()).isEmpty();
+            assertThat(results.sessions())
+                .hasSize(3)
+                .allSatisfy(session -> assertThat(session.taskTimings()).hasSize(4));
+            assertThat(results.throughput()).isPositive();
+        }
+    }
+}
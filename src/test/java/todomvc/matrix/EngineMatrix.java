@@ -0,0 +1,187 @@
+package todomvc.matrix;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import todomvc.SerenityPlaywrightTest;
+import todomvc.report.SerenityOutcomes;
+import todomvc.report.SerenityOutcomes.Outcome;
+import todomvc.screenplay.ScreenplayPlaywrightTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Runs the browser test classes in several engines at the same time, in one JVM.
+ * <p>
+ * Each engine gets its own thread and its own class loader over the test classpath,
+ * so it has its own Playwright instances, browser pool and Serenity state, and
+ * writes its outcomes to {@code target/matrix/<engine>}. When all engines have
+ * finished, the outcomes are tagged with their engine, given the engine as Serenity
+ * context, and copied into the Serenity output directory for the {@code aggregate}
+ * goal. A per-test comparison of durations across engines is written to
+ * {@code target/matrix/engine-comparison.csv} and {@code .md}.
+ * </p>
+ * <p>
+ * Usage: {@code EngineMatrix [engines]}, default {@code chromium,firefox,webkit}.
+ * Run it with {@code mvn verify -Pmatrix}; the engines must be installed first
+ * ({@code playwright install firefox webkit}).
+ * </p>
+ */
+public final class EngineMatrix {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EngineMatrix.class);
+    private static final Path MATRIX_DIRECTORY = Path.of("target", "matrix");
+    private static final Path TEST_CLASSES = Path.of("target", "test-classes");
+
+    private EngineMatrix() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> engines = List.of((args.length > 0 ? args[0] : "chromium,firefox,webkit").split(","));
+        String[] testClasses = browserTestClasses();
+        URL[] classpath = testClasspath();
+        LOG.info("Running {} test classes in {} at the same time", testClasses.length, engines);
+
+        Map<String, Duration> wallClock = new ConcurrentHashMap<>();
+        Map<String, long[]> results = new ConcurrentHashMap<>();
+        List<Thread> runs = new ArrayList<>();
+        for (String engine : engines) {
+            Thread run = new Thread(() -> {
+                long startedAt = System.nanoTime();
+                results.put(engine, runInIsolation(engine, classpath, testClasses));
+                wallClock.put(engine, Duration.ofNanos(System.nanoTime() - startedAt));
+            }, "matrix-" + engine);
+            runs.add(run);
+            run.start();
+        }
+        for (Thread run : runs) {
+            run.join();
+        }
+
+        Map<String, Map<String, Long>> durations = collectOutcomes(engines);
+        writeComparison(engines, durations, wallClock, results);
+
+        long failed = results.values().stream().mapToLong(result -> result[2]).sum();
+        if (failed > 0 || results.size() < engines.size()) {
+            throw new IllegalStateException(failed + " test(s) failed in the engine matrix, see " + MATRIX_DIRECTORY);
+        }
+    }
+
+    private static long[] runInIsolation(String engine, URL[] classpath, String[] testClasses) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader isolated = new URLClassLoader("matrix-" + engine, classpath, ClassLoader.getPlatformClassLoader())) {
+            thread.setContextClassLoader(isolated);
+            Path outputDirectory = Files.createDirectories(MATRIX_DIRECTORY.resolve(engine)).toAbsolutePath();
+            return (long[]) isolated.loadClass(EngineRun.class.getName())
+                    .getMethod("run", String.class, String.class, String[].class)
+                    .invoke(null, engine, outputDirectory.toString(), testClasses);
+        } catch (Exception e) {
+            LOG.error("The {} run could not complete", engine, e);
+            return new long[]{0, 0, 1};
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    /**
+     * The concrete test classes that run in a browser through the base test classes.
+     */
+    private static String[] browserTestClasses() throws IOException, ClassNotFoundException {
+        List<String> testClasses = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(TEST_CLASSES)) {
+            for (Path file : files.filter(path -> path.toString().endsWith("Test.class")).toList()) {
+                String name = TEST_CLASSES.relativize(file).toString().replace(File.separatorChar, '.').replace(".class", "");
+                Class<?> candidate = Class.forName(name, false, EngineMatrix.class.getClassLoader());
+                boolean browserTest = SerenityPlaywrightTest.class.isAssignableFrom(candidate)
+                        || ScreenplayPlaywrightTest.class.isAssignableFrom(candidate);
+                if (browserTest && !Modifier.isAbstract(candidate.getModifiers())) {
+                    testClasses.add(name);
+                }
+            }
+        }
+        return testClasses.stream().sorted().toArray(String[]::new);
+    }
+
+    private static URL[] testClasspath() throws MalformedURLException {
+        if (EngineMatrix.class.getClassLoader() instanceof URLClassLoader loader) {
+            return loader.getURLs();
+        }
+        List<URL> urls = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            urls.add(Path.of(entry).toUri().toURL());
+        }
+        return urls.toArray(URL[]::new);
+    }
+
+    /**
+     * Tag each engine's outcomes and copy them, with their screenshots, into the
+     * Serenity output directory. Returns each test's duration per engine.
+     */
+    private static Map<String, Map<String, Long>> collectOutcomes(List<String> engines) throws IOException {
+        Path serenityDirectory = Files.createDirectories(SerenityOutcomes.outputDirectory());
+        Map<String, Map<String, Long>> durations = new TreeMap<>();
+        for (String engine : engines) {
+            Path engineDirectory = MATRIX_DIRECTORY.resolve(engine);
+            for (Outcome outcome : SerenityOutcomes.in(engineDirectory)) {
+                String test = outcome.storyName().isEmpty() ? outcome.title() : outcome.storyName() + " / " + outcome.title();
+                durations.computeIfAbsent(test, name -> new LinkedHashMap<>()).put(engine, outcome.duration());
+                outcome.addTag(engine, "browser");
+                outcome.setContext(engine);
+                outcome.saveAs(serenityDirectory.resolve(engine + "-" + outcome.file().getFileName()));
+            }
+            if (Files.isDirectory(engineDirectory)) {
+                try (Stream<Path> files = Files.list(engineDirectory)) {
+                    for (Path file : files.filter(path -> !path.toString().endsWith(".json")).toList()) {
+                        if (Files.isRegularFile(file)) {
+                            Files.copy(file, serenityDirectory.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                        }
+                    }
+                }
+            }
+        }
+        return durations;
+    }
+
+    private static void writeComparison(List<String> engines, Map<String, Map<String, Long>> durations,
+                                        Map<String, Duration> wallClock, Map<String, long[]> results) throws IOException {
+        StringBuilder csv = new StringBuilder("test," + String.join(",", engines.stream().map(engine -> engine + "-ms").toList()) + "\n");
+        StringBuilder markdown = new StringBuilder("# Engine matrix\n\n| Engine | Tests | Passed | Failed | Wall clock (s) |\n|---|---:|---:|---:|---:|\n");
+        for (String engine : engines) {
+            long[] result = results.getOrDefault(engine, new long[]{0, 0, 0});
+            markdown.append(String.format(Locale.ROOT, "| %s | %d | %d | %d | %.1f |%n", engine, result[0], result[1], result[2],
+                    wallClock.getOrDefault(engine, Duration.ZERO).toMillis() / 1000.0));
+        }
+        markdown.append("\n| Test | ").append(String.join(" (ms) | ", engines)).append(" (ms) | Slowest |\n|---|")
+                .append("---:|".repeat(engines.size())).append("---|\n");
+        durations.forEach((test, byEngine) -> {
+            List<String> cells = engines.stream()
+                    .map(engine -> byEngine.containsKey(engine) ? String.valueOf(byEngine.get(engine)) : "")
+                    .toList();
+            String slowest = byEngine.entrySet().stream().max(Map.Entry.comparingByValue()).map(Map.Entry::getKey).orElse("");
+            csv.append('"').append(test.replace("\"", "\"\"")).append("\",").append(String.join(",", cells)).append('\n');
+            markdown.append("| ").append(test.replace("|", "\\|")).append(" | ").append(String.join(" | ", cells))
+                    .append(" | ").append(slowest).append(" |\n");
+        });
+        Files.createDirectories(MATRIX_DIRECTORY);
+        Files.writeString(MATRIX_DIRECTORY.resolve("engine-comparison.csv"), csv);
+        Files.writeString(MATRIX_DIRECTORY.resolve("engine-comparison.md"), markdown);
+        LOG.info("Engine comparison written to {}:\n{}", MATRIX_DIRECTORY.resolve("engine-comparison.md"), markdown);
+    }
+}
@@ -0,0 +1,49 @@
+package todomvc.matrix;
+
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import todomvc.browser.BrowserEngine;
+
+import java.util.Arrays;
+
+/**
+ * Runs JUnit test classes in one browser engine, inside the class loader that
+ * {@link EngineMatrix} created for that engine.
+ * <p>
+ * Everything static (the engine, Serenity's configuration and event bus, the
+ * browser pools) belongs to that class loader, so engines running side by side in
+ * one JVM do not share state. Called reflectively, so it only takes and returns
+ * JDK types.
+ * </p>
+ */
+public final class EngineRun {
+
+    private EngineRun() {
+    }
+
+    /**
+     * @return tests found, succeeded and failed
+     */
+    public static long[] run(String engine, String outputDirectory, String[] testClasses) {
+        BrowserEngine.use(engine);
+        var environment = SystemEnvironmentVariables.currentEnvironmentVariables();
+        environment.setProperty("serenity.outputDirectory", outputDirectory);
+        environment.setProperty("context", engine);
+
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(Arrays.stream(testClasses).map(DiscoverySelectors::selectClass).toList())
+                .filters(EngineFilter.includeEngines("junit-jupiter"))
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        LauncherFactory.create().execute(request, listener);
+
+        TestExecutionSummary summary = listener.getSummary();
+        return new long[]{summary.getTestsFoundCount(), summary.getTestsSucceededCount(), summary.getTotalFailureCount()};
+    }
+}
@@ -3,7 +3,11 @@ package todomvc.pages;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.AriaRole;
+import todomvc.app.TodoMvcApp;
+import todomvc.browser.VirtualClock;
+import todomvc.performance.PageLoadBudget;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -28,7 +32,6 @@ import java.util.List;
 public class TodoMvcPage {
 
     private final Page page;
-    private static final String URL = "https://todomvc.com/examples/react/dist/";
 
     public TodoMvcPage(Page page) {
         this.page = page;
@@ -93,11 +96,29 @@ public class TodoMvcPage {
     // ========== Navigation ==========
 
     /**
-     * Open the TodoMVC application.
+     * Open the TodoMVC application and check its page-load performance budgets.
      */
     public void open() {
-        page.navigate(URL);
+        page.navigate(TodoMvcApp.url());
         page.waitForLoadState();
+        PageLoadBudget.check(page, "TodoMVC application");
+    }
+
+    // ========== Time ==========
+
+    /**
+     * Give the app a virtual clock. Call before {@link #open()} so the app's
+     * timers are controlled from the start.
+     */
+    public void installClock() {
+        VirtualClock.install(page);
+    }
+
+    /**
+     * Jump the app's virtual clock forward instead of waiting for its timers.
+     */
+    public void fastForward(Duration duration) {
+        VirtualClock.fastForward(page, duration);
     }
 
     // ========== Adding Todos ==========
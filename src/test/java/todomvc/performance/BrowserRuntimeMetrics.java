@@ -0,0 +1,228 @@
+package todomvc.performance;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import net.serenitybdd.core.Serenity;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in collector for the browser work triggered by each step or task.
+ * <p>
+ * When {@code todomvc.metrics.browser-runtime} is enabled, Chromium's CDP
+ * {@code Performance.getMetrics} is sampled before and after each measured action.
+ * The deltas (JS heap used, layout count, style recalculation count and script
+ * duration) are recorded in the Serenity report for the current step, together
+ * with the running suite-wide average for the same action. A CSV summary of all
+ * actions is written to {@code target/performance/browser-runtime.csv} when the
+ * JVM exits.
+ * </p>
+ * <p>
+ * Other browser engines do not expose CDP, so actions run unmeasured there.
+ * </p>
+ */
+public final class BrowserRuntimeMetrics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BrowserRuntimeMetrics.class);
+
+    private static final String ENABLED_PROPERTY = "todomvc.metrics.browser-runtime";
+    private static final Path SUMMARY_FILE = Path.of("target", "performance", "browser-runtime.csv");
+
+    /** CDP metric name to report column, in report order. */
+    private static final Map<String, String> METRICS = new LinkedHashMap<>();
+
+    static {
+        METRICS.put("JSHeapUsedSize", "JS heap used (KB)");
+        METRICS.put("LayoutCount", "Layouts");
+        METRICS.put("RecalcStyleCount", "Style recalculations");
+        METRICS.put("ScriptDuration", "Script duration (ms)");
+    }
+
+    private static final Map<Page, CDPSession> SESSIONS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, Aggregate> AGGREGATES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserRuntimeMetrics::writeSummary, "browser-runtime-summary"));
+    }
+
+    private BrowserRuntimeMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return SystemEnvironmentVariables.currentEnvironmentVariables()
+                .getPropertyAsBoolean(ENABLED_PROPERTY, false);
+    }
+
+    /**
+     * Measure an action performed by a Screenplay actor on its current page.
+     */
+    public static void around(Actor actor, String action, Runnable performance) {
+        if (!isEnabled()) {
+            performance.run();
+            return;
+        }
+        around(BrowseTheWebWithPlaywright.as(actor).getCurrentPage(), action, performance);
+    }
+
+    public static void around(Page page, String action, Runnable performance) {
+        measure(page, action, () -> {
+            performance.run();
+            return null;
+        });
+    }
+
+    /**
+     * Measure an action that returns a value, such as a query step.
+     */
+    public static <T> T measure(Page page, String action, Supplier<T> performance) {
+        if (!isEnabled() || page == null) {
+            return performance.get();
+        }
+        Map<String, Double> before = sample(page);
+        T result = performance.get();
+        if (!before.isEmpty()) {
+            Map<String, Double> after = sample(page);
+            if (!after.isEmpty()) {
+                record(action, deltaBetween(before, after));
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Double> sample(Page page) {
+        try {
+            CDPSession session = sessionFor(page);
+            if (session == null) {
+                return Map.of();
+            }
+            JsonObject response = session.send("Performance.getMetrics");
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (JsonElement metric : response.getAsJsonArray("metrics")) {
+                String name = metric.getAsJsonObject().get("name").getAsString();
+                if (METRICS.containsKey(name)) {
+                    values.put(name, metric.getAsJsonObject().get("value").getAsDouble());
+                }
+            }
+            return values;
+        } catch (PlaywrightException e) {
+            LOG.debug("Could not sample browser runtime metrics: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static CDPSession sessionFor(Page page) {
+        synchronized (SESSIONS) {
+            if (SESSIONS.containsKey(page)) {
+                return SESSIONS.get(page);
+            }
+            CDPSession session = null;
+            if (isChromium(page)) {
+                session = page.context().newCDPSession(page);
+                session.send("Performance.enable");
+            }
+            SESSIONS.put(page, session);
+            return session;
+        }
+    }
+
+    private static boolean isChromium(Page page) {
+        Browser browser = page.context().browser();
+        return browser != null && "chromium".equals(browser.browserType().name());
+    }
+
+    private static Map<String, Double> deltaBetween(Map<String, Double> before, Map<String, Double> after) {
+        Map<String, Double> delta = new LinkedHashMap<>();
+        METRICS.keySet().forEach(name -> {
+            if (before.containsKey(name) && after.containsKey(name)) {
+                delta.put(name, toReportUnits(name, after.get(name) - before.get(name)));
+            }
+        });
+        return delta;
+    }
+
+    private static double toReportUnits(String metric, double value) {
+        return switch (metric) {
+            case "JSHeapUsedSize" -> value / 1024;
+            case "ScriptDuration" -> value * 1000;
+            default -> value;
+        };
+    }
+
+    private static void record(String action, Map<String, Double> delta) {
+        Aggregate aggregate = AGGREGATES.computeIfAbsent(action, key -> new Aggregate());
+        aggregate.add(delta);
+
+        StringBuilder report = new StringBuilder(
+                String.format(Locale.ROOT, "%-24s %12s %12s%n", "Metric", "This step", "Suite mean"));
+        delta.forEach((metric, value) -> report.append(String.format(Locale.ROOT, "%-24s %12.2f %12.2f%n",
+                METRICS.get(metric), value, aggregate.mean(metric))));
+        report.append(String.format(Locale.ROOT, "%nMeasured %d time(s) in this run", aggregate.samples.sum()));
+
+        Serenity.recordReportData()
+                .withTitle("Browser work: " + action)
+                .andContents(report.toString());
+    }
+
+    private static void writeSummary() {
+        if (AGGREGATES.isEmpty()) {
+            return;
+        }
+        StringBuilder csv = new StringBuilder("action,samples");
+        METRICS.values().forEach(column -> csv.append(",mean ").append(column).append(",total ").append(column));
+        csv.append('\n');
+        new TreeMap<>(AGGREGATES).forEach((action, aggregate) -> {
+            csv.append('"').append(action.replace("\"", "\"\"")).append('"').append(',').append(aggregate.samples.sum());
+            METRICS.keySet().forEach(metric -> csv.append(String.format(Locale.ROOT, ",%.2f,%.2f",
+                    aggregate.mean(metric), aggregate.total(metric))));
+            csv.append('\n');
+        });
+        try {
+            Files.createDirectories(SUMMARY_FILE.getParent());
+            Files.writeString(SUMMARY_FILE, csv);
+            LOG.info("Browser runtime metrics for {} actions written to {}", AGGREGATES.size(), SUMMARY_FILE);
+        } catch (IOException e) {
+            LOG.warn("Could not write browser runtime metrics summary", e);
+        }
+    }
+
+    private static class Aggregate {
+        private final LongAdder samples = new LongAdder();
+        private final Map<String, DoubleAdder> totals = new ConcurrentHashMap<>();
+
+        void add(Map<String, Double> delta) {
+            samples.increment();
+            delta.forEach((metric, value) -> totals.computeIfAbsent(metric, key -> new DoubleAdder()).add(value));
+        }
+
+        double total(String metric) {
+            DoubleAdder total = totals.get(metric);
+            return total == null ? 0 : total.sum();
+        }
+
+        double mean(String metric) {
+            long count = samples.sum();
+            return count == 0 ? 0 : total(metric) / count;
+        }
+    }
+}
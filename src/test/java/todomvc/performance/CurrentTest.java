@@ -0,0 +1,32 @@
+package todomvc.performance;
+
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.model.domain.TestOutcome;
+
+/**
+ * Names the Serenity test running on the current thread, for performance records.
+ */
+public final class CurrentTest {
+
+    private static final String UNKNOWN = "(no test)";
+
+    private CurrentTest() {
+    }
+
+    public static String name() {
+        try {
+            return StepEventBus.getEventBus().getBaseStepListener()
+                    .latestTestOutcome()
+                    .map(CurrentTest::qualifiedName)
+                    .orElse(UNKNOWN);
+        } catch (RuntimeException noTestInProgress) {
+            return UNKNOWN;
+        }
+    }
+
+    private static String qualifiedName(TestOutcome outcome) {
+        return outcome.getUserStory() == null
+                ? outcome.getName()
+                : outcome.getUserStory().getName() + " / " + outcome.getName();
+    }
+}
@@ -0,0 +1,110 @@
+package todomvc.performance;
+
+import com.google.gson.Gson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import todomvc.screenplay.questions.StreamingJson;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Compares the memory allocated by the ways of reading a JSON collection in a test.
+ * <p>
+ * A synthetic collection of posts, shaped like the JSONPlaceholder responses used in
+ * the API tests, is decoded into the nested maps that {@code LastAPIResponse.jsonBodyAsList()}
+ * returns, and through {@link StreamingJson} into typed records, a streaming match,
+ * an element count and a single JSON pointer lookup. Bytes allocated and time per
+ * decode are measured on the benchmark thread after a warm-up and written to
+ * {@code target/performance/json-decoding.md}.
+ * </p>
+ * <p>
+ * Usage: {@code JsonDecodingBenchmark [elements] [iterations]}, default 10000 and 50.
+ * </p>
+ */
+public final class JsonDecodingBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonDecodingBenchmark.class);
+    private static final Path REPORT_FILE = Path.of("target", "performance", "json-decoding.md");
+
+    record Post(int userId, int id, String title, String body) {}
+
+    private record Result(double bytesPerDecode, double microsPerDecode) {}
+
+    private JsonDecodingBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int elements = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        String json = collectionOf(elements);
+        Gson gson = new Gson();
+
+        Map<String, Supplier<Object>> decoders = new LinkedHashMap<>();
+        decoders.put("Map tree (jsonBodyAsList)", () -> gson.fromJson(json, List.class));
+        decoders.put("Typed records (elementsAs)", () -> {
+            try (Stream<Post> posts = StreamingJson.elements(json, Post.class)) {
+                return posts.toList();
+            }
+        });
+        decoders.put("Streaming match (everyElement)", () -> {
+            try (Stream<Post> posts = StreamingJson.elements(json, Post.class)) {
+                return posts.allMatch(post -> post.userId() > 0);
+            }
+        });
+        decoders.put("Element count (elementCount)", () -> StreamingJson.count(json));
+        decoders.put("Last title by pointer (at)", () -> StreamingJson.at(json, "/" + (elements - 1) + "/title", String.class));
+
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "# JSON decoding%n%n%d elements, %.1f KB of JSON, "
+                + "%d decodes each.%n%n| Decoder | KB allocated per decode | ms per decode |%n|---|---:|---:|%n",
+                elements, json.length() / 1024.0, iterations));
+        decoders.forEach((name, decoder) -> {
+            Result result = measure(decoder, iterations);
+            report.append(String.format(Locale.ROOT, "| %s | %.1f | %.2f |%n", name, result.bytesPerDecode() / 1024,
+                    result.microsPerDecode() / 1000));
+        });
+
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.writeString(REPORT_FILE, report);
+        LOG.info("JSON decoding benchmark written to {}:\n{}", REPORT_FILE, report);
+    }
+
+    private static Result measure(Supplier<Object> decoder, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            decoder.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        Object sink = null;
+        for (int i = 0; i < iterations; i++) {
+            sink = decoder.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        if (sink == null) {
+            LOG.debug("Decoder returned nothing");
+        }
+        return new Result((double) allocated / iterations, elapsed / 1000.0 / iterations);
+    }
+
+    private static String collectionOf(int elements) {
+        StringBuilder json = new StringBuilder("[");
+        for (int id = 1; id <= elements; id++) {
+            if (id > 1) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT, "{\"userId\":%d,\"id\":%d,\"title\":\"post number %d\","
+                    + "\"body\":\"the body of post %d, long enough to look like a real one\"}", id % 10 + 1, id, id, id));
+        }
+        return json.append(']').toString();
+    }
+}
@@ -0,0 +1,369 @@
+package todomvc.performance;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.PlaywrightException;
+import net.serenitybdd.core.Serenity;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watches for browser resources and memory that tests leave behind.
+ * <p>
+ * After every test, the monitor counts the contexts and pages still open in the
+ * browsers of the worker thread that ran it, and the browsers and Playwright
+ * instances behind them. Browsers are registered with {@link #watch(Browser)} by the
+ * base test classes and the browser pool, and with {@link #watch(Actor)} by tests
+ * whose actors launch their own through {@code BrowseTheWebWithPlaywright}. Playwright
+ * instances are told apart by their browser types, which each instance has its own
+ * of. It also takes a {@link ProcessCensus} of the Playwright driver, browser and
+ * renderer processes under the JVM. A test is named as leaking when its worker has
+ * more contexts or pages open than before it started, when its worker holds more
+ * than one connected browser or Playwright instance (and more than it held before),
+ * or when the JVM runs more Playwright drivers than there have been workers, each of
+ * which may legitimately keep one. Each sample,
+ * with the JVM heap in use after the last garbage collection and the resident memory
+ * of the JVM and the browsers, is appended to {@code target/performance/leaks.csv}.
+ * A summary of the offending tests, the peak counts on each worker and the memory
+ * trend is written to {@code target/performance/leaks.md} when the JVM exits.
+ * </p>
+ * <p>
+ * JUnit tests register it with {@code @ExtendWith(LeakMonitor.class)}, ahead of the
+ * other extensions so that it checks after they have cleaned up. Cucumber scenarios
+ * are checked when the next scenario starts on the same worker, once the stage
+ * has been cleared. Disable it with {@code todomvc.leaks.monitor=false}; set
+ * {@code todomvc.leaks.fail=true} to fail JUnit tests that leak instead of only
+ * reporting them.
+ * </p>
+ */
+public final class LeakMonitor implements BeforeEachCallback, AfterEachCallback {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LeakMonitor.class);
+
+    private static final String ENABLED_PROPERTY = "todomvc.leaks.monitor";
+    private static final String FAIL_PROPERTY = "todomvc.leaks.fail";
+    private static final Path SAMPLES_FILE = Path.of("target", "performance", "leaks.csv");
+    private static final Path SUMMARY_FILE = Path.of("target", "performance", "leaks.md");
+    private static final String SAMPLES_HEADER = "timestamp,worker,test,contexts,pages,worker-playwrights,worker-browsers,"
+            + "drivers,browsers,renderers,browser-rss-mb,jvm-rss-mb,heap-after-gc-mb\n";
+
+    private static final Map<String, Worker> WORKERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Worker> WORKER = ThreadLocal.withInitial(
+            () -> WORKERS.computeIfAbsent(Thread.currentThread().getName(), name -> new Worker()));
+    private static final Set<String> WORKERS_SEEN = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger PEAK_DRIVERS = new AtomicInteger();
+    private static final List<String> LEAKS = new CopyOnWriteArrayList<>();
+    private static final List<Sample> SAMPLES = new CopyOnWriteArrayList<>();
+    private static final AtomicLong PEAK_BROWSER_RSS_KB = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(LeakMonitor::writeSummary, "leak-monitor-summary"));
+    }
+
+    private record Sample(String test, int contexts, int pages, int playwrights, int browsers,
+                          ProcessCensus census, long heapAfterGcKb) {}
+
+    private static class Worker {
+        private final Set<Browser> browsers = Collections.newSetFromMap(new WeakHashMap<>());
+        private String test;
+        private boolean checked = true;
+        private int contextsAtStart;
+        private int pagesAtStart;
+        private int tests;
+        private int peakPlaywrights;
+        private int peakBrowsers;
+    }
+
+    public static boolean isEnabled() {
+        return SystemEnvironmentVariables.currentEnvironmentVariables()
+                .getPropertyAsBoolean(ENABLED_PROPERTY, true);
+    }
+
+    /**
+     * Count the contexts and pages of this browser against the current worker thread.
+     */
+    public static Browser watch(Browser browser) {
+        if (browser != null) {
+            WORKER.get().browsers.add(browser);
+        }
+        return browser;
+    }
+
+    /**
+     * Count the browser behind an actor's {@code BrowseTheWebWithPlaywright} ability
+     * against the current worker thread. Call it once the actor has opened a page;
+     * an actor without one opens it now, as its first interaction would have.
+     */
+    public static Actor watch(Actor actor) {
+        BrowseTheWebWithPlaywright browsing = actor.abilityTo(BrowseTheWebWithPlaywright.class);
+        if (browsing != null) {
+            watch(browsing.getCurrentPage().context().browser());
+        }
+        return actor;
+    }
+
+    /**
+     * Note the start of a test on this worker, first checking the previous test if
+     * nothing has checked it since it finished.
+     */
+    public static void testStarting(String test) {
+        if (!isEnabled()) {
+            return;
+        }
+        Worker worker = WORKER.get();
+        if (!worker.checked && worker.test != null) {
+            check(worker, worker.test);
+        }
+        WORKERS_SEEN.add(Thread.currentThread().getName());
+        worker.test = test;
+        worker.checked = false;
+        worker.contextsAtStart = openContexts(worker);
+        worker.pagesAtStart = openPages(worker);
+    }
+
+    /**
+     * Check what the test that just finished on this worker left open.
+     *
+     * @return a description of each leak found, empty when none
+     */
+    public static List<String> testFinished(String test) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        Worker worker = WORKER.get();
+        worker.checked = true;
+        return check(worker, test);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        testStarting(testName(context));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<String> leaks = testFinished(testName(context));
+        if (!leaks.isEmpty() && SystemEnvironmentVariables.currentEnvironmentVariables()
+                .getPropertyAsBoolean(FAIL_PROPERTY, false)) {
+            throw new AssertionError("Resources left open: " + String.join("; ", leaks));
+        }
+    }
+
+    private static String testName(ExtensionContext context) {
+        return context.getRequiredTestClass().getSimpleName() + " / " + context.getDisplayName();
+    }
+
+    private static List<String> check(Worker worker, String test) {
+        int contexts = openContexts(worker);
+        int pages = openPages(worker);
+        List<Browser> browsers = connectedBrowsers(worker);
+        int playwrights = playwrightsBehind(browsers);
+        ProcessCensus census = ProcessCensus.take();
+        Sample sample = new Sample(test, contexts, pages, playwrights, browsers.size(), census, heapAfterGcKb());
+        SAMPLES.add(sample);
+        PEAK_BROWSER_RSS_KB.accumulateAndGet(census.browserRssKb(), Math::max);
+        append(sample);
+
+        List<String> leaks = new ArrayList<>();
+        if (contexts > worker.contextsAtStart) {
+            leaks.add(String.format(Locale.ROOT, "%d browser context(s) still open", contexts - worker.contextsAtStart));
+        }
+        if (pages > worker.pagesAtStart) {
+            leaks.add(String.format(Locale.ROOT, "%d page(s) still open", pages - worker.pagesAtStart));
+        }
+        if (browsers.size() > Math.max(1, worker.peakBrowsers)) {
+            leaks.add(String.format(Locale.ROOT, "%d browsers connected on this worker", browsers.size()));
+        }
+        if (playwrights > Math.max(1, worker.peakPlaywrights)) {
+            leaks.add(String.format(Locale.ROOT, "%d Playwright instances on this worker", playwrights));
+        }
+        worker.tests++;
+        worker.peakBrowsers = Math.max(worker.peakBrowsers, browsers.size());
+        worker.peakPlaywrights = Math.max(worker.peakPlaywrights, playwrights);
+        int workers = WORKERS_SEEN.size();
+        int previousPeak = PEAK_DRIVERS.getAndAccumulate(census.drivers(), Math::max);
+        if (census.drivers() > workers && census.drivers() > previousPeak) {
+            leaks.add(String.format(Locale.ROOT, "%d Playwright driver processes running for %d worker(s)", census.drivers(), workers));
+        }
+        worker.contextsAtStart = contexts;
+        worker.pagesAtStart = pages;
+
+        if (!leaks.isEmpty()) {
+            LEAKS.add(test + ": " + String.join("; ", leaks));
+            LOG.warn("{} left resources open: {}", test, String.join("; ", leaks));
+            recordInReport(sample, leaks);
+        }
+        return leaks;
+    }
+
+    private static List<Browser> connectedBrowsers(Worker worker) {
+        List<Browser> connected = new ArrayList<>();
+        for (Browser browser : List.copyOf(worker.browsers)) {
+            try {
+                if (browser.isConnected()) {
+                    connected.add(browser);
+                }
+            } catch (PlaywrightException closed) {
+                worker.browsers.remove(browser);
+            }
+        }
+        return connected;
+    }
+
+    /**
+     * Each Playwright instance has its own browser type objects, so the distinct
+     * browser types of the connected browsers tell the instances apart.
+     */
+    private static int playwrightsBehind(List<Browser> browsers) {
+        Set<BrowserType> types = Collections.newSetFromMap(new IdentityHashMap<>());
+        browsers.forEach(browser -> types.add(browser.browserType()));
+        return types.size();
+    }
+
+    private static int openContexts(Worker worker) {
+        int contexts = 0;
+        for (Browser browser : List.copyOf(worker.browsers)) {
+            try {
+                if (browser.isConnected()) {
+                    contexts += browser.contexts().size();
+                }
+            } catch (PlaywrightException closed) {
+                worker.browsers.remove(browser);
+            }
+        }
+        return contexts;
+    }
+
+    private static int openPages(Worker worker) {
+        int pages = 0;
+        for (Browser browser : List.copyOf(worker.browsers)) {
+            try {
+                if (browser.isConnected()) {
+                    for (BrowserContext context : browser.contexts()) {
+                        pages += context.pages().size();
+                    }
+                }
+            } catch (PlaywrightException closed) {
+                worker.browsers.remove(browser);
+            }
+        }
+        return pages;
+    }
+
+    private static long heapAfterGcKb() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && afterGc != null) {
+                used += afterGc.getUsed();
+            }
+        }
+        return used / 1024;
+    }
+
+    private static void recordInReport(Sample sample, List<String> leaks) {
+        StringBuilder report = new StringBuilder();
+        leaks.forEach(leak -> report.append(leak).append('\n'));
+        report.append(String.format(Locale.ROOT, "%nOn this worker: %d Playwright instance(s), %d browser(s), "
+                + "%d context(s), %d page(s) open%n", sample.playwrights(), sample.browsers(), sample.contexts(), sample.pages()));
+        report.append(String.format(Locale.ROOT, "In this JVM: %d driver(s), %d browser(s), %d renderer(s), %.1f MB browser RSS, "
+                        + "%.1f MB heap after GC%n",
+                sample.census().drivers(), sample.census().browsers(), sample.census().renderers(),
+                sample.census().browserRssKb() / 1024.0, sample.heapAfterGcKb() / 1024.0));
+        try {
+            Serenity.recordReportData()
+                    .withTitle("Resource leak")
+                    .andContents(report.toString());
+        } catch (RuntimeException noTestInProgress) {
+            LOG.debug("Could not record the leak in the Serenity report: {}", noTestInProgress.getMessage());
+        }
+    }
+
+    private static synchronized void append(Sample sample) {
+        ProcessCensus census = sample.census();
+        String row = String.format(Locale.ROOT, "%s,%s,\"%s\",%d,%d,%d,%d,%d,%d,%d,%.1f,%.1f,%.1f%n",
+                Instant.now(), Thread.currentThread().getName(), sample.test().replace("\"", "\"\""),
+                sample.contexts(), sample.pages(), sample.playwrights(), sample.browsers(), census.drivers(), census.browsers(), census.renderers(),
+                census.browserRssKb() / 1024.0, census.jvmRssKb() / 1024.0, sample.heapAfterGcKb() / 1024.0);
+        try {
+            Files.createDirectories(SAMPLES_FILE.getParent());
+            if (!Files.exists(SAMPLES_FILE)) {
+                Files.writeString(SAMPLES_FILE, SAMPLES_HEADER);
+            }
+            Files.writeString(SAMPLES_FILE, row, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.warn("Could not append to {}", SAMPLES_FILE, e);
+        }
+    }
+
+    private static void writeSummary() {
+        if (SAMPLES.isEmpty()) {
+            return;
+        }
+        Sample first = SAMPLES.get(0);
+        Sample last = SAMPLES.get(SAMPLES.size() - 1);
+        StringBuilder summary = new StringBuilder("# Resource leaks\n\n");
+        summary.append(String.format(Locale.ROOT, "%d test(s) checked on %d worker(s).%n%n", SAMPLES.size(), WORKERS_SEEN.size()));
+        summary.append("| Measure | First test | Last test | Peak |\n|---|---:|---:|---:|\n");
+        summary.append(String.format(Locale.ROOT, "| Heap after GC (MB) | %.1f | %.1f | %.1f |%n", first.heapAfterGcKb() / 1024.0,
+                last.heapAfterGcKb() / 1024.0,
+                SAMPLES.stream().mapToLong(Sample::heapAfterGcKb).max().orElse(0) / 1024.0));
+        summary.append(String.format(Locale.ROOT, "| JVM RSS (MB) | %.1f | %.1f | %.1f |%n", first.census().jvmRssKb() / 1024.0,
+                last.census().jvmRssKb() / 1024.0,
+                SAMPLES.stream().mapToLong(sample -> sample.census().jvmRssKb()).max().orElse(0) / 1024.0));
+        summary.append(String.format(Locale.ROOT, "| Browser RSS (MB) | %.1f | %.1f | %.1f |%n", first.census().browserRssKb() / 1024.0,
+                last.census().browserRssKb() / 1024.0, PEAK_BROWSER_RSS_KB.get() / 1024.0));
+        summary.append(String.format(Locale.ROOT, "| Playwright drivers | %d | %d | %d |%n", first.census().drivers(),
+                last.census().drivers(), PEAK_DRIVERS.get()));
+        summary.append("\n## Workers\n\n| Worker | Tests | Peak Playwright instances | Peak browsers |\n|---|---:|---:|---:|\n");
+        new TreeMap<>(WORKERS).forEach((name, worker) -> {
+            if (worker.tests > 0) {
+                summary.append(String.format(Locale.ROOT, "| %s | %d | %d | %d |%n", name, worker.tests,
+                        worker.peakPlaywrights, worker.peakBrowsers));
+            }
+        });
+        summary.append("\n## Tests that left resources open\n\n");
+        if (LEAKS.isEmpty()) {
+            summary.append("None.\n");
+        } else {
+            LEAKS.forEach(leak -> summary.append("- ").append(leak).append('\n'));
+        }
+        try {
+            Files.createDirectories(SUMMARY_FILE.getParent());
+            Files.writeString(SUMMARY_FILE, summary);
+            LOG.info("Leak summary for {} tests written to {} ({} leak(s))", SAMPLES.size(), SUMMARY_FILE, LEAKS.size());
+        } catch (IOException e) {
+            LOG.warn("Could not write the leak summary", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package todomvc.performance;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import net.serenitybdd.core.Serenity;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import net.thucydides.model.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Checks page-load timings against the budgets configured in {@code serenity.conf}.
+ * <p>
+ * Budgets live under {@code todomvc.performance.budgets}: {@code ttfb},
+ * {@code dom-content-loaded}, {@code load} and {@code lcp} in milliseconds, and
+ * {@code cls} as a layout shift score. Metrics without a budget are recorded but
+ * never checked. The {@code mode} setting decides what happens on a regression:
+ * {@code fail} fails the test, {@code warn} (the default) records a warning in the
+ * report, and {@code off} skips collection altogether.
+ * </p>
+ * <p>
+ * Every check appends a row to {@code target/performance/page-load.csv} so the
+ * values can be tracked per test across runs.
+ * </p>
+ */
+public final class PageLoadBudget {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PageLoadBudget.class);
+
+    private static final String BUDGETS = "todomvc.performance.budgets.";
+    private static final Path TREND_FILE = Path.of("target", "performance", "page-load.csv");
+    private static final String TREND_HEADER = "timestamp,test,page,ttfb,dom-content-loaded,load,lcp,cls\n";
+
+    enum Mode { FAIL, WARN, OFF }
+
+    private PageLoadBudget() {
+    }
+
+    /**
+     * Collect the timings of the page's last load and check them against the budgets.
+     *
+     * @throws AssertionError if a budget is exceeded and the mode is {@code fail}
+     */
+    public static void check(Page page, String pageName) {
+        EnvironmentVariables environment = SystemEnvironmentVariables.currentEnvironmentVariables();
+        Mode mode = Mode.valueOf(environment.getProperty(BUDGETS + "mode", "warn").toUpperCase(Locale.ROOT));
+        if (mode == Mode.OFF) {
+            return;
+        }
+
+        PageLoadTiming timing;
+        try {
+            timing = PageLoadTiming.of(page);
+        } catch (PlaywrightException e) {
+            LOG.debug("Could not collect page load timings for {}: {}", pageName, e.getMessage());
+            return;
+        }
+
+        Map<String, Double> metrics = timing.asMetrics();
+        List<String> overBudget = new ArrayList<>();
+        StringBuilder report = new StringBuilder(String.format("%-20s %12s %12s%n", "Metric", "Measured", "Budget"));
+        metrics.forEach((metric, value) -> {
+            Double budget = budgetFor(environment, metric);
+            report.append(String.format("%-20s %12s %12s%n", metric, format(value), format(budget)));
+            if (value != null && budget != null && value > budget) {
+                overBudget.add(String.format("%s %s > %s", metric, format(value), format(budget)));
+            }
+        });
+
+        String test = CurrentTest.name();
+        appendTrend(test, pageName, metrics);
+
+        if (overBudget.isEmpty()) {
+            Serenity.recordReportData().withTitle("Page load timing: " + pageName).andContents(report.toString());
+            return;
+        }
+
+        String message = "Page load budget exceeded for " + pageName + ": " + String.join(", ", overBudget);
+        Serenity.recordReportData().withTitle("Page load budget exceeded: " + pageName).andContents(report.toString());
+        if (mode == Mode.FAIL) {
+            throw new AssertionError(message);
+        }
+        LOG.warn("{} (in {})", message, test);
+    }
+
+    private static Double budgetFor(EnvironmentVariables environment, String metric) {
+        String budget = environment.getProperty(BUDGETS + metric);
+        return budget == null || budget.isBlank() ? null : Double.valueOf(budget.trim());
+    }
+
+    private static synchronized void appendTrend(String test, String pageName, Map<String, Double> metrics) {
+        StringBuilder row = new StringBuilder()
+                .append(Instant.now()).append(',')
+                .append(quoted(test)).append(',')
+                .append(quoted(pageName));
+        metrics.values().forEach(value -> row.append(',').append(value == null ? "" : format(value)));
+        row.append('\n');
+        try {
+            Files.createDirectories(TREND_FILE.getParent());
+            if (Files.notExists(TREND_FILE)) {
+                Files.writeString(TREND_FILE, TREND_HEADER);
+            }
+            Files.writeString(TREND_FILE, row, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.warn("Could not record page load timings in {}", TREND_FILE, e);
+        }
+    }
+
+    private static String format(Double value) {
+        if (value == null) {
+            return "-";
+        }
+        return value < 10 ? String.format(Locale.ROOT, "%.3f", value) : String.format(Locale.ROOT, "%.0f", value);
+    }
+
+    private static String quoted(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,79 @@
+package todomvc.performance;
+
+import com.microsoft.playwright.Page;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Navigation timing and Core Web Vitals for the last page load, read from the
+ * browser's Performance API. Times are in milliseconds from the start of the
+ * navigation; CLS is unitless. Values the engine does not report are {@code null}.
+ */
+public record PageLoadTiming(Double ttfb, Double domContentLoaded, Double load, Double lcp, Double cls) {
+
+    private static final String COLLECT_TIMINGS = """
+        () => new Promise(resolve => {
+            const navigation = performance.getEntriesByType('navigation')[0];
+            const observers = [];
+            const supported = new Set();
+            let lcp = 0;
+            let cls = 0;
+            const watch = (type, onEntry) => {
+                try {
+                    const observer = new PerformanceObserver(list => list.getEntries().forEach(onEntry));
+                    observer.observe({ type, buffered: true });
+                    observers.push([observer, onEntry]);
+                    supported.add(type);
+                } catch (e) {
+                    // entry type not supported by this browser engine
+                }
+            };
+            watch('largest-contentful-paint', e => { lcp = Math.max(lcp, e.renderTime || e.loadTime || e.startTime); });
+            watch('layout-shift', e => { if (!e.hadRecentInput) cls += e.value; });
+            setTimeout(() => {
+                observers.forEach(([observer, onEntry]) => {
+                    observer.takeRecords().forEach(onEntry);
+                    observer.disconnect();
+                });
+                const since = (end) => navigation && end > 0 ? end - navigation.startTime : null;
+                resolve({
+                    ttfb: navigation ? since(navigation.responseStart) : null,
+                    domContentLoaded: navigation ? since(navigation.domContentLoadedEventEnd) : null,
+                    load: navigation ? since(navigation.loadEventEnd) : null,
+                    lcp: lcp > 0 ? lcp : null,
+                    cls: supported.has('layout-shift') ? cls : null
+                });
+            }, 0);
+        })
+        """;
+
+    public static PageLoadTiming of(Page page) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> timings = (Map<String, Object>) page.evaluate(COLLECT_TIMINGS);
+        return new PageLoadTiming(
+                number(timings.get("ttfb")),
+                number(timings.get("domContentLoaded")),
+                number(timings.get("load")),
+                number(timings.get("lcp")),
+                number(timings.get("cls"))
+        );
+    }
+
+    /**
+     * The timings keyed by the metric names used for budgets and trend records.
+     */
+    public Map<String, Double> asMetrics() {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("ttfb", ttfb);
+        metrics.put("dom-content-loaded", domContentLoaded);
+        metrics.put("load", load);
+        metrics.put("lcp", lcp);
+        metrics.put("cls", cls);
+        return metrics;
+    }
+
+    private static Double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+}
@@ -0,0 +1,278 @@
+package todomvc.performance;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import todomvc.browser.BrowserProfile;
+import todomvc.browser.NetworkProfile;
+import todomvc.report.SerenityOutcomes;
+import todomvc.report.SerenityOutcomes.Outcome;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps an append-only history of test and step durations across runs and flags
+ * the ones that have slowed down.
+ * <p>
+ * Run after the tests and before the Serenity {@code aggregate} goal. It reads the
+ * JSON outcomes of the current run, appends one line per run to
+ * {@code runs.jsonl} in the baseline directory, and compares each test and step
+ * with its median over the last K runs of the same context. A duration counts as
+ * a regression when it is both {@code threshold} (relative) and
+ * {@code min-delta-ms} (absolute) above that median. Regressions are listed in
+ * {@code regressions.md} next to the history and tagged
+ * {@value #REGRESSION_TAG} in the Serenity outcomes, so they show up in the report.
+ * </p>
+ * <p>
+ * Settings (system properties):
+ * <ul>
+ *   <li>{@code performance.baseline.dir} - history location, default {@code target/performance-baseline}.
+ *       Point this outside {@code target} to keep the history across {@code mvn clean}.</li>
+ *   <li>{@code performance.baseline.runs} - number of previous runs to compare with (K), default 10</li>
+ *   <li>{@code performance.baseline.min-runs} - runs needed before comparing, default 3</li>
+ *   <li>{@code performance.baseline.threshold} - relative slow-down to flag, default 0.25</li>
+ *   <li>{@code performance.baseline.min-delta-ms} - absolute slow-down to flag, default 100</li>
+ *   <li>{@code performance.baseline.context} - label for runs that should only be compared
+ *       with each other, default the {@code todomvc.browser.profile}
+ *       or {@code default}, followed by {@code +<network profile>} when
+ *       {@code todomvc.network.profile} is set to anything but {@code none}</li>
+ * </ul>
+ * The summary also compares the median total test time of each context, so the
+ * effect of a setting such as the {@code fast} browser profile can be read off.
+ */
+public final class PerformanceBaseline {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PerformanceBaseline.class);
+    private static final Gson GSON = new Gson();
+
+    static final String REGRESSION_TAG = "Performance regression";
+
+    record Run(String timestamp, String context, Map<String, Long> tests, Map<String, Long> steps) {}
+
+    record Regression(String kind, String name, long current, double median, int samples, double robustZ) {
+
+        double change() {
+            return (current - median) / median;
+        }
+    }
+
+    private final Path baselineDirectory;
+    private final int comparedRuns;
+    private final int minimumRuns;
+    private final double threshold;
+    private final long minimumDeltaMillis;
+    private final String context;
+
+    PerformanceBaseline(Path baselineDirectory, int comparedRuns, int minimumRuns,
+                        double threshold, long minimumDeltaMillis, String context) {
+        this.baselineDirectory = baselineDirectory;
+        this.comparedRuns = comparedRuns;
+        this.minimumRuns = minimumRuns;
+        this.threshold = threshold;
+        this.minimumDeltaMillis = minimumDeltaMillis;
+        this.context = context;
+    }
+
+    public static void main(String[] args) throws IOException {
+        PerformanceBaseline baseline = new PerformanceBaseline(
+                Path.of(System.getProperty("performance.baseline.dir", "target/performance-baseline")),
+                Integer.getInteger("performance.baseline.runs", 10),
+                Integer.getInteger("performance.baseline.min-runs", 3),
+                Double.parseDouble(System.getProperty("performance.baseline.threshold", "0.25")),
+                Long.getLong("performance.baseline.min-delta-ms", 100),
+                System.getProperty("performance.baseline.context", defaultContext())
+        );
+        baseline.update(SerenityOutcomes.in(SerenityOutcomes.outputDirectory()));
+    }
+
+    /**
+     * The browser profile, followed by the network profile when one is simulated,
+     * read from the Serenity configuration as the tests read them.
+     */
+    private static String defaultContext() {
+        String context = BrowserProfile.current().label();
+        NetworkProfile network = NetworkProfile.current();
+        return network == NetworkProfile.NONE ? context : context + "+" + network.label();
+    }
+
+    void update(List<Outcome> outcomes) throws IOException {
+        if (outcomes.isEmpty()) {
+            LOG.info("No Serenity outcomes found, performance baseline left unchanged");
+            return;
+        }
+        Run current = runFrom(outcomes);
+        List<Run> history = previousRuns();
+
+        List<Regression> regressions = new ArrayList<>();
+        regressions.addAll(compare("test", current.tests(), history, Run::tests));
+        regressions.addAll(compare("step", current.steps(), history, Run::steps));
+
+        append(current);
+        writeSummary(current, history.size(), regressions, contextTotals());
+        tagRegressedTests(outcomes, regressions);
+    }
+
+    private Run runFrom(List<Outcome> outcomes) {
+        Map<String, Long> tests = new LinkedHashMap<>();
+        Map<String, Long> steps = new LinkedHashMap<>();
+        for (Outcome outcome : outcomes) {
+            tests.put(outcome.id(), outcome.duration());
+            outcome.steps().forEach(step -> collectSteps(outcome.id(), step, steps));
+        }
+        return new Run(Instant.now().toString(), context, tests, steps);
+    }
+
+    private static void collectSteps(String parent, JsonObject step, Map<String, Long> steps) {
+        if (!step.has("description") || !step.has("duration")) {
+            return;
+        }
+        String name = parent + " > " + step.get("description").getAsString();
+        steps.merge(name, step.get("duration").getAsLong(), Long::sum);
+        if (step.has("children")) {
+            step.getAsJsonArray("children").forEach(child -> collectSteps(name, child.getAsJsonObject(), steps));
+        }
+    }
+
+    private List<Run> previousRuns() throws IOException {
+        Path history = historyFile();
+        if (Files.notExists(history)) {
+            return List.of();
+        }
+        List<Run> runs = Files.readAllLines(history, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.isBlank())
+                .map(line -> GSON.fromJson(line, Run.class))
+                .filter(run -> context.equals(run.context()))
+                .toList();
+        return runs.subList(Math.max(0, runs.size() - comparedRuns), runs.size());
+    }
+
+    private List<Regression> compare(String kind, Map<String, Long> current, List<Run> history,
+                                     Function<Run, Map<String, Long>> durations) {
+        List<Regression> regressions = new ArrayList<>();
+        current.forEach((name, duration) -> {
+            double[] previous = history.stream()
+                    .map(durations)
+                    .filter(values -> values != null && values.containsKey(name))
+                    .mapToDouble(values -> values.get(name))
+                    .toArray();
+            if (previous.length < minimumRuns) {
+                return;
+            }
+            double median = median(previous);
+            if (median <= 0) {
+                return;
+            }
+            boolean slower = duration > median * (1 + threshold) && duration - median >= minimumDeltaMillis;
+            if (slower) {
+                double mad = median(Arrays.stream(previous).map(value -> Math.abs(value - median)).toArray());
+                double robustZ = mad == 0 ? Double.POSITIVE_INFINITY : (duration - median) / (1.4826 * mad);
+                regressions.add(new Regression(kind, name, duration, median, previous.length, robustZ));
+            }
+        });
+        regressions.sort(Comparator.comparingDouble(Regression::change).reversed());
+        return regressions;
+    }
+
+    static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private void append(Run run) throws IOException {
+        Files.createDirectories(baselineDirectory);
+        Files.writeString(historyFile(), GSON.toJson(run) + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Median total test time of the last K runs of every context in the history.
+     */
+    private Map<String, double[]> contextTotals() throws IOException {
+        Map<String, List<Double>> totals = new TreeMap<>();
+        for (String line : Files.readAllLines(historyFile(), StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                Run run = GSON.fromJson(line, Run.class);
+                totals.computeIfAbsent(run.context(), key -> new ArrayList<>())
+                        .add(run.tests().values().stream().mapToDouble(Long::doubleValue).sum());
+            }
+        }
+        Map<String, double[]> medians = new TreeMap<>();
+        totals.forEach((runContext, values) -> {
+            double[] recent = values.subList(Math.max(0, values.size() - comparedRuns), values.size())
+                    .stream().mapToDouble(Double::doubleValue).toArray();
+            medians.put(runContext, new double[]{median(recent), recent.length});
+        });
+        return medians;
+    }
+
+    private void writeSummary(Run current, int comparedWith, List<Regression> regressions,
+                              Map<String, double[]> contextTotals) throws IOException {
+        StringBuilder summary = new StringBuilder("# Performance regressions\n\n")
+                .append(String.format(Locale.ROOT,
+                        "Run %s (context `%s`): %d tests and %d steps compared with up to %d previous runs.%n%n",
+                        current.timestamp(), context, current.tests().size(), current.steps().size(), comparedWith));
+        if (regressions.isEmpty()) {
+            summary.append("No regressions beyond the threshold.\n");
+        } else {
+            summary.append("| Kind | Name | Current (ms) | Median (ms) | Change | Robust z | Runs |\n")
+                   .append("|------|------|-------------:|------------:|-------:|---------:|-----:|\n");
+            regressions.forEach(regression -> summary.append(String.format(Locale.ROOT,
+                    "| %s | %s | %d | %.0f | +%.0f%% | %.1f | %d |%n",
+                    regression.kind(), regression.name().replace("|", "\\|"), regression.current(), regression.median(),
+                    regression.change() * 100, regression.robustZ(), regression.samples())));
+        }
+        if (contextTotals.size() > 1) {
+            double reference = contextTotals.getOrDefault(context, new double[]{0, 0})[0];
+            summary.append("\n## Total test time by context\n\n")
+                   .append("| Context | Median total (ms) | Runs | vs current context |\n")
+                   .append("|---------|------------------:|-----:|-------------------:|\n");
+            contextTotals.forEach((runContext, total) -> summary.append(String.format(Locale.ROOT, "| %s | %.0f | %d | %s |%n",
+                    runContext, total[0], (int) total[1],
+                    reference <= 0 ? "-" : String.format(Locale.ROOT, "%+.0f%%", (total[0] - reference) / reference * 100))));
+        }
+        Files.writeString(baselineDirectory.resolve("regressions.md"), summary, StandardCharsets.UTF_8);
+
+        if (regressions.isEmpty()) {
+            LOG.info("Performance baseline updated in {}, no regressions", baselineDirectory);
+        } else {
+            LOG.warn("{} performance regression(s) found, see {}", regressions.size(), baselineDirectory.resolve("regressions.md"));
+        }
+    }
+
+    private static void tagRegressedTests(List<Outcome> outcomes, List<Regression> regressions) {
+        Set<String> regressed = regressions.stream()
+                .map(regression -> regression.kind().equals("test")
+                        ? regression.name()
+                        : regression.name().substring(0, regression.name().indexOf(" > ")))
+                .collect(Collectors.toSet());
+        outcomes.stream()
+                .filter(outcome -> regressed.contains(outcome.id()))
+                .forEach(outcome -> {
+                    outcome.addTag(REGRESSION_TAG, "performance");
+                    outcome.save();
+                });
+    }
+
+    private Path historyFile() {
+        return baselineDirectory.resolve("runs.jsonl");
+    }
+}
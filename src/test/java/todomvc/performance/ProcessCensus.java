@@ -0,0 +1,80 @@
+package todomvc.performance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A count of the Playwright processes running under this JVM, and their memory.
+ * <p>
+ * Each Playwright instance runs a Node.js driver process ({@code run-driver}); the
+ * browsers it launches are children of that driver, and their renderer (or content)
+ * processes are children of the browsers. Resident set sizes come from
+ * {@code /proc/<pid>/status}, so they are only available on Linux; elsewhere the
+ * processes are counted but their memory reads as zero.
+ * </p>
+ */
+record ProcessCensus(int drivers, int browsers, int renderers, long browserRssKb, long jvmRssKb) {
+
+    static ProcessCensus take() {
+        List<ProcessHandle> descendants = ProcessHandle.current().descendants().toList();
+        Map<Long, String> commandLines = new HashMap<>();
+        descendants.forEach(process -> commandLines.put(process.pid(), commandLineOf(process)));
+
+        int drivers = 0;
+        int browsers = 0;
+        int renderers = 0;
+        long browserRssKb = 0;
+        for (ProcessHandle process : descendants) {
+            String commandLine = commandLines.get(process.pid());
+            if (commandLine.contains("run-driver")) {
+                drivers++;
+                continue;
+            }
+            browserRssKb += rssKbOf(process.pid());
+            if (isRenderer(commandLine)) {
+                renderers++;
+            } else if (process.parent().map(parent -> commandLines.getOrDefault(parent.pid(), "").contains("run-driver")).orElse(false)) {
+                browsers++;
+            }
+        }
+        return new ProcessCensus(drivers, browsers, renderers, browserRssKb, rssKbOf(ProcessHandle.current().pid()));
+    }
+
+    private static boolean isRenderer(String commandLine) {
+        return commandLine.contains("--type=renderer")
+                || commandLine.contains("-contentproc")
+                || commandLine.contains("WebKitWebProcess");
+    }
+
+    private static String commandLineOf(ProcessHandle process) {
+        Path cmdline = Path.of("/proc", String.valueOf(process.pid()), "cmdline");
+        try {
+            if (Files.isReadable(cmdline)) {
+                return new String(Files.readAllBytes(cmdline)).replace('\0', ' ');
+            }
+        } catch (IOException processEnded) {
+            return "";
+        }
+        return process.info().commandLine().or(() -> process.info().command()).orElse("");
+    }
+
+    private static long rssKbOf(long pid) {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        try {
+            if (!Files.isReadable(status)) {
+                return 0;
+            }
+            Optional<String> rss = Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .findFirst();
+            return rss.map(line -> Long.parseLong(line.replaceAll("[^0-9]", ""))).orElse(0L);
+        } catch (IOException | NumberFormatException processEnded) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package todomvc.performance;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import todomvc.app.LocalTodoMvcApp;
+import todomvc.browser.BrowserPool;
+import todomvc.browser.BrowserProfile;
+import todomvc.screenplay.tasks.AddATodoItem;
+import todomvc.screenplay.ui.TodoList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * Compares adding N todos one at a time with adding them in one in-page script.
+ * <p>
+ * Against the {@link LocalTodoMvcApp} in a headless Chromium, each list size is
+ * added the way a single {@link AddATodoItem} does it, a fill and an Enter press per
+ * item, and the way a batch does it, {@link AddATodoItem#submitAll} in one evaluate
+ * call. The browser round trips each way takes are counted at the Playwright calls
+ * made, and the median time of several runs is measured after a warm-up. The table
+ * is written to {@code target/performance/todo-batching.md}: one at a time grows
+ * by two round trips per item, the batch stays at one.
+ * </p>
+ * <p>
+ * Usage: {@code TodoBatchBenchmark [sizes] [runs]}, default {@code 1,10,50,200} and 5.
+ * </p>
+ */
+public final class TodoBatchBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TodoBatchBenchmark.class);
+    private static final Path REPORT_FILE = Path.of("target", "performance", "todo-batching.md");
+
+    private record Result(int roundTrips, double medianMillis) {}
+
+    private interface Adder {
+        /**
+         * Add the items and return the number of browser round trips it took.
+         */
+        int add(Locator newTodoInput, List<String> items);
+    }
+
+    private TodoBatchBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = Arrays.stream((args.length > 0 ? args[0] : "1,10,50,200").split(","))
+                .mapToInt(size -> Integer.parseInt(size.trim()))
+                .toArray();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Adder oneAtATime = (input, items) -> {
+            for (String item : items) {
+                input.fill(item);
+                input.press("Enter");
+            }
+            return items.size() * 2;
+        };
+        Adder batched = (input, items) -> {
+            AddATodoItem.submitAll(input, items);
+            return 1;
+        };
+
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "# Adding todos%n%n"
+                + "Median of %d runs against the local app in headless Chromium.%n%n"
+                + "| Items | One at a time: round trips | One at a time (ms) | Batched: round trips | Batched (ms) | Speed-up |%n"
+                + "|---:|---:|---:|---:|---:|---:|%n", runs));
+        try (LocalTodoMvcApp app = LocalTodoMvcApp.start()) {
+            Browser browser = BrowserPool.forThisThread("chromium");
+            try (BrowserContext context = BrowserProfile.current().newContext(browser)) {
+                Page page = context.newPage();
+                measure(page, app.url(), oneAtATime, List.of("warm-up"), 1);
+                measure(page, app.url(), batched, List.of("warm-up", "warm-up"), 1);
+                for (int size : sizes) {
+                    List<String> items = IntStream.rangeClosed(1, size).mapToObj(item -> "Todo " + item).toList();
+                    Result single = measure(page, app.url(), oneAtATime, items, runs);
+                    Result batch = measure(page, app.url(), batched, items, runs);
+                    report.append(String.format(Locale.ROOT, "| %d | %d | %.1f | %d | %.1f | %.1fx |%n", size,
+                            single.roundTrips(), single.medianMillis(), batch.roundTrips(), batch.medianMillis(),
+                            single.medianMillis() / Math.max(batch.medianMillis(), 0.001)));
+                }
+            }
+        } finally {
+            BrowserPool.releaseThisThread();
+        }
+
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.writeString(REPORT_FILE, report);
+        LOG.info("Todo batching benchmark written to {}:\n{}", REPORT_FILE, report);
+    }
+
+    private static Result measure(Page page, String url, Adder adder, List<String> items, int runs) {
+        List<Double> millis = new ArrayList<>();
+        int roundTrips = 0;
+        for (int run = 0; run < runs; run++) {
+            page.navigate(url);
+            page.evaluate("() => localStorage.clear()");
+            page.reload();
+            Locator input = page.locator(TodoList.NEW_TODO_INPUT.asSelector());
+            input.waitFor();
+
+            long startedAt = System.nanoTime();
+            roundTrips = adder.add(input, items);
+            millis.add((System.nanoTime() - startedAt) / 1e6);
+
+            int added = page.locator(".todo-list li").count();
+            if (added != items.size()) {
+                throw new IllegalStateException("Expected " + items.size() + " todos but the list has " + added);
+            }
+        }
+        millis.sort(Double::compare);
+        return new Result(roundTrips, millis.get(millis.size() / 2));
+    }
+}
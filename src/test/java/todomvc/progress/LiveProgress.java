@@ -0,0 +1,258 @@
+package todomvc.progress;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The progress of the running tests, streamed live to browsers by a {@link ProgressServer}.
+ * <p>
+ * Opt-in with {@code todomvc.progress.port}: when it is above 0, the first event
+ * starts a local server on that port (or the next free one, since each test JVM
+ * runs its own) at {@code http://127.0.0.1:<port>/}. Test starts and finishes come from the
+ * JUnit Platform through {@link LiveProgressListener}, so they cover the JUnit
+ * and the Cucumber executions alike; step durations come from the TodoSteps and
+ * Screenplay task hooks and, for Cucumber steps, from {@link LiveProgressPlugin}.
+ * Each event also carries the overall counts and how many workers are busy.
+ * </p>
+ */
+public final class LiveProgress {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LiveProgress.class);
+
+    private static final String PORT_PROPERTY = "todomvc.progress.port";
+    private static final int PORT = port();
+    private static final Duration CLOSE_GRACE = Duration.ofSeconds(2);
+    private static final int SLOWEST_KEPT = 10;
+
+    private record Running(String name, String worker, long startedAt) {}
+
+    private record Finished(String name, long durationMillis) {}
+
+    private static final Map<String, Running> RUNNING = new ConcurrentHashMap<>();
+    private static final Set<String> WORKERS = ConcurrentHashMap.newKeySet();
+    private static final List<Finished> SLOWEST = new ArrayList<>();
+    private static final AtomicInteger TOTAL = new AtomicInteger();
+    private static final AtomicInteger PASSED = new AtomicInteger();
+    private static final AtomicInteger FAILED = new AtomicInteger();
+    private static final AtomicInteger SKIPPED = new AtomicInteger();
+    private static volatile long runStartedAt = System.currentTimeMillis();
+    private static volatile ProgressServer server;
+    private static volatile boolean serverFailed;
+
+    private LiveProgress() {
+    }
+
+    public static boolean isEnabled() {
+        return PORT > 0;
+    }
+
+    public static void runStarted(int tests) {
+        if (!isEnabled()) {
+            return;
+        }
+        runStartedAt = System.currentTimeMillis();
+        TOTAL.addAndGet(tests);
+        JsonObject event = new JsonObject();
+        event.addProperty("tests", tests);
+        publish("run-started", event);
+    }
+
+    public static void testStarted(String id, String name) {
+        if (!isEnabled()) {
+            return;
+        }
+        String worker = Thread.currentThread().getName();
+        WORKERS.add(worker);
+        RUNNING.put(id, new Running(name, worker, System.currentTimeMillis()));
+        JsonObject event = new JsonObject();
+        event.addProperty("id", id);
+        event.addProperty("test", name);
+        event.addProperty("worker", worker);
+        publish("test-started", event);
+    }
+
+    public static void testFinished(String id, String status) {
+        if (!isEnabled()) {
+            return;
+        }
+        Running running = RUNNING.remove(id);
+        if (running == null) {
+            return;
+        }
+        long duration = System.currentTimeMillis() - running.startedAt();
+        switch (status) {
+            case "SUCCESSFUL" -> PASSED.incrementAndGet();
+            case "SKIPPED", "ABORTED" -> SKIPPED.incrementAndGet();
+            default -> FAILED.incrementAndGet();
+        }
+        synchronized (SLOWEST) {
+            SLOWEST.add(new Finished(running.name(), duration));
+            SLOWEST.sort(Comparator.comparingLong(Finished::durationMillis).reversed());
+            if (SLOWEST.size() > SLOWEST_KEPT) {
+                SLOWEST.remove(SLOWEST_KEPT);
+            }
+        }
+        JsonObject event = new JsonObject();
+        event.addProperty("id", id);
+        event.addProperty("test", running.name());
+        event.addProperty("worker", running.worker());
+        event.addProperty("status", status);
+        event.addProperty("durationMs", duration);
+        publish("test-finished", event);
+    }
+
+    public static void stepFinished(String step, long durationNanos) {
+        if (!isEnabled()) {
+            return;
+        }
+        JsonObject event = new JsonObject();
+        event.addProperty("step", step);
+        event.addProperty("worker", Thread.currentThread().getName());
+        event.addProperty("durationMs", durationNanos / 1_000_000.0);
+        publish("step-finished", event);
+    }
+
+    /**
+     * Tell the browsers the run is over, then stop the server once they have had
+     * time to receive it. A later run in the same JVM starts a new one.
+     */
+    public static void runFinished() {
+        if (!isEnabled()) {
+            return;
+        }
+        publish("run-finished", new JsonObject());
+        ProgressServer finished;
+        synchronized (LiveProgress.class) {
+            finished = server;
+            server = null;
+        }
+        if (finished != null) {
+            Thread stop = new Thread(() -> {
+                try {
+                    Thread.sleep(CLOSE_GRACE.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.close();
+            }, "live-progress-stop");
+            stop.setDaemon(true);
+            stop.start();
+        }
+    }
+
+    /**
+     * Time a step for the live view. Steps are always run, whether or not the view is enabled.
+     */
+    public static void around(String step, Runnable performance) {
+        measure(step, () -> {
+            performance.run();
+            return null;
+        });
+    }
+
+    public static <T> T measure(String step, Supplier<T> performance) {
+        if (!isEnabled()) {
+            return performance.get();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            return performance.get();
+        } finally {
+            stepFinished(step, System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * The whole state of the run, sent to each browser when it connects.
+     */
+    static JsonObject snapshot() {
+        JsonObject snapshot = progress();
+        JsonArray running = new JsonArray();
+        RUNNING.forEach((id, test) -> {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("id", id);
+            entry.addProperty("test", test.name());
+            entry.addProperty("worker", test.worker());
+            entry.addProperty("startedAt", test.startedAt());
+            running.add(entry);
+        });
+        snapshot.add("running", running);
+        JsonArray slowest = new JsonArray();
+        synchronized (SLOWEST) {
+            SLOWEST.forEach(test -> {
+                JsonObject entry = new JsonObject();
+                entry.addProperty("test", test.name());
+                entry.addProperty("durationMs", test.durationMillis());
+                slowest.add(entry);
+            });
+        }
+        snapshot.add("slowest", slowest);
+        return snapshot;
+    }
+
+    private static JsonObject progress() {
+        JsonObject progress = new JsonObject();
+        progress.addProperty("total", TOTAL.get());
+        progress.addProperty("passed", PASSED.get());
+        progress.addProperty("failed", FAILED.get());
+        progress.addProperty("skipped", SKIPPED.get());
+        progress.addProperty("running", RUNNING.size());
+        progress.addProperty("workers", WORKERS.size());
+        progress.addProperty("elapsedMs", System.currentTimeMillis() - runStartedAt);
+        return progress;
+    }
+
+    private static int port() {
+        String port = SystemEnvironmentVariables.currentEnvironmentVariables().getProperty(PORT_PROPERTY, "0").trim();
+        try {
+            return Integer.parseInt(port);
+        } catch (NumberFormatException e) {
+            LOG.warn("Ignoring {}={}: not a port number, so live progress is off", PORT_PROPERTY, port);
+            return 0;
+        }
+    }
+
+    private static void publish(String type, JsonObject event) {
+        ProgressServer running = serverOrNull();
+        if (running == null) {
+            return;
+        }
+        event.addProperty("time", System.currentTimeMillis());
+        event.add("progress", progress());
+        running.broadcast(type, event.toString());
+    }
+
+    private static ProgressServer serverOrNull() {
+        if (server != null || serverFailed) {
+            return server;
+        }
+        synchronized (LiveProgress.class) {
+            if (server == null && !serverFailed) {
+                try {
+                    ProgressServer started = ProgressServer.startNear(PORT);
+                    Runtime.getRuntime().addShutdownHook(new Thread(started::close, "live-progress-close"));
+                    server = started;
+                    LOG.info("Live test progress at {}", server.url());
+                } catch (IOException e) {
+                    serverFailed = true;
+                    LOG.warn("Could not start the live progress server near port {}: {}", PORT, e.getMessage());
+                }
+            }
+            return server;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package todomvc.progress;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Feeds {@link LiveProgress} with the tests the JUnit Platform runs: JUnit 5 tests and
+ * Cucumber scenarios alike, as the same launcher events Serenity's own listeners see.
+ * Registered with the launcher through {@code META-INF/services}.
+ */
+public class LiveProgressListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if (LiveProgress.isEnabled()) {
+            LiveProgress.runStarted((int) testPlan.countTestIdentifiers(TestIdentifier::isTest));
+        }
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            LiveProgress.testStarted(testIdentifier.getUniqueId(), testIdentifier.getDisplayName());
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        if (testIdentifier.isTest()) {
+            LiveProgress.testStarted(testIdentifier.getUniqueId(), testIdentifier.getDisplayName());
+            LiveProgress.testFinished(testIdentifier.getUniqueId(), "SKIPPED");
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.isTest()) {
+            LiveProgress.testFinished(testIdentifier.getUniqueId(), testExecutionResult.getStatus().name());
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        LiveProgress.runFinished();
+    }
+}
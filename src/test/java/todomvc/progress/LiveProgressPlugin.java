@@ -0,0 +1,28 @@
+package todomvc.progress;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Sends the duration of every Cucumber step to {@link LiveProgress}, from the same
+ * event bus the Serenity reporter listens to. Added to the plugins in
+ * {@code CucumberTestSuite}.
+ */
+public class LiveProgressPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (LiveProgress.isEnabled()) {
+            publisher.registerHandlerFor(TestStepFinished.class, this::stepFinished);
+        }
+    }
+
+    private void stepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            LiveProgress.stepFinished(step.getStep().getKeyword() + step.getStep().getText(),
+                    event.getResult().getDuration().toNanos());
+        }
+    }
+}
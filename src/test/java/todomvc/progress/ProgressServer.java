@@ -0,0 +1,151 @@
+package todomvc.progress;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the live progress page and streams the events to it as server-sent events.
+ * <p>
+ * {@code /} is the page in {@code src/test/resources/live-progress} and {@code /events}
+ * the stream: a {@code snapshot} of the run so far, then every event as it happens.
+ * Each browser has its own bounded queue, so a slow or stalled one is dropped rather
+ * than holding up the tests that publish to it.
+ * </p>
+ */
+final class ProgressServer {
+
+    private static final int PORTS_TRIED = 10;
+    private static final int QUEUED_EVENTS = 1000;
+    private static final long KEEPALIVE_SECONDS = 15;
+    private static final String CLOSED = "";
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final Set<BlockingQueue<String>> clients = ConcurrentHashMap.newKeySet();
+
+    private ProgressServer(HttpServer server) {
+        this.server = server;
+        this.workers = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "live-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start on {@code port}, or the next free port after it: parallel test JVMs each get their own.
+     */
+    static ProgressServer startNear(int port) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                HttpServer server = HttpServer.create(
+                        new InetSocketAddress(InetAddress.getLoopbackAddress(), port + attempt), 0);
+                return new ProgressServer(server).start();
+            } catch (BindException e) {
+                if (attempt == PORTS_TRIED - 1) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private ProgressServer start() {
+        server.setExecutor(workers);
+        server.createContext("/events", this::stream);
+        server.createContext("/", ProgressServer::page);
+        // The dispatcher thread takes its daemon status from the thread that starts
+        // it; a test worker is not a daemon, and would keep the JVM alive after the run.
+        Thread starter = new Thread(server::start, "live-progress-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return this;
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * End every stream and stop the server, along with its dispatcher thread. Safe to call twice.
+     */
+    void close() {
+        clients.forEach(client -> {
+            client.clear();
+            client.offer(CLOSED);
+        });
+        clients.clear();
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    void broadcast(String type, String json) {
+        String event = "event: " + type + "\ndata: " + json + "\n\n";
+        clients.removeIf(client -> !client.offer(event));
+    }
+
+    private void stream(HttpExchange exchange) throws IOException {
+        BlockingQueue<String> client = new ArrayBlockingQueue<>(QUEUED_EVENTS);
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            clients.add(client);
+            send(out, "event: snapshot\ndata: " + LiveProgress.snapshot() + "\n\n");
+            while (clients.contains(client)) {
+                String event = client.poll(KEEPALIVE_SECONDS, TimeUnit.SECONDS);
+                if (event == CLOSED) {
+                    break;
+                }
+                send(out, event != null ? event : ": keepalive\n\n");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // The browser went away
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    private static void send(OutputStream out, String event) throws IOException {
+        out.write(event.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void page(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream content = ProgressServer.class.getResourceAsStream("/live-progress/index.html")) {
+            if (content == null || !exchange.getRequestURI().getPath().equals("/")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = content.readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package todomvc.report;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import todomvc.report.SerenityOutcomes.Outcome;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Stores the screenshots in the Serenity output directory by content, before the
+ * {@code aggregate} goal builds the report.
+ * <p>
+ * Every screenshot an outcome refers to is decoded and named after a SHA-256 hash of
+ * its pixels, so identical screenshots (the same empty TodoMVC page in many tests)
+ * are written once whatever their original bytes. Stored names start with
+ * {@value #STORED_PREFIX}, which is how a later pass over the same output directory
+ * recognizes them and leaves them alone. Each distinct image is re-encoded
+ * in the configured format and quality, and given a {@code thumbnail_} copy of the
+ * configured width; images are processed in parallel. The outcomes are rewritten to
+ * refer to the hashed names and the originals are deleted.
+ * </p>
+ * <p>
+ * Settings (system properties):
+ * <ul>
+ *   <li>{@code screenshots.store.format} - {@code jpg} (the default) or {@code png}</li>
+ *   <li>{@code screenshots.store.quality} - JPEG quality from 0 to 1, default 0.8</li>
+ *   <li>{@code screenshots.store.thumbnail-width} - in pixels, default 200</li>
+ * </ul>
+ * The space saved is logged and written to {@code target/performance/screenshot-store.md}.
+ * </p>
+ */
+public final class ScreenshotStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreenshotStore.class);
+    private static final Set<String> REFERENCE_KEYS = Set.of("screenshot", "screenshotName");
+    private static final String STORED_PREFIX = "stored_";
+    private static final Pattern STORED_NAME = Pattern.compile(STORED_PREFIX + "[0-9a-f]{32}\\.(jpg|png)");
+    private static final Path SUMMARY_FILE = Path.of("target", "performance", "screenshot-store.md");
+
+    private final Path directory;
+    private final String format;
+    private final float quality;
+    private final int thumbnailWidth;
+
+    ScreenshotStore(Path directory, String format, float quality, int thumbnailWidth) {
+        this.directory = directory;
+        this.format = format;
+        this.quality = quality;
+        this.thumbnailWidth = thumbnailWidth;
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        new ScreenshotStore(
+                SerenityOutcomes.outputDirectory(),
+                System.getProperty("screenshots.store.format", "jpg"),
+                Float.parseFloat(System.getProperty("screenshots.store.quality", "0.8")),
+                Integer.getInteger("screenshots.store.thumbnail-width", 200)
+        ).store(SerenityOutcomes.in(SerenityOutcomes.outputDirectory()));
+    }
+
+    void store(List<Outcome> outcomes) throws IOException {
+        Map<Outcome, Set<String>> references = new LinkedHashMap<>();
+        Set<String> screenshots = new TreeSet<>();
+        for (Outcome outcome : outcomes) {
+            Set<String> names = new TreeSet<>();
+            collectReferences(outcome.json(), names);
+            names.removeIf(name -> isStored(name) || !Files.isRegularFile(directory.resolve(fileName(name))));
+            if (!names.isEmpty()) {
+                references.put(outcome, names);
+                screenshots.addAll(names);
+            }
+        }
+        if (screenshots.isEmpty()) {
+            return;
+        }
+
+        AtomicLong bytesBefore = new AtomicLong();
+        AtomicLong bytesAfter = new AtomicLong();
+        AtomicLong thumbnailBytes = new AtomicLong();
+        Map<String, String> stored = new ConcurrentHashMap<>();
+        Set<String> written = ConcurrentHashMap.newKeySet();
+        screenshots.parallelStream().forEach(name -> {
+            Path original = directory.resolve(fileName(name));
+            try {
+                bytesBefore.addAndGet(Files.size(original));
+                Path originalThumbnail = directory.resolve("thumbnail_" + fileName(name));
+                if (Files.isRegularFile(originalThumbnail)) {
+                    bytesBefore.addAndGet(Files.size(originalThumbnail));
+                }
+                BufferedImage image = ImageIO.read(original.toFile());
+                if (image == null) {
+                    return;
+                }
+                String hashed = STORED_PREFIX + hashOf(image) + "." + format;
+                if (written.add(hashed)) {
+                    Path target = directory.resolve(hashed);
+                    write(image, target);
+                    Path thumbnail = directory.resolve("thumbnail_" + hashed);
+                    write(thumbnailOf(image), thumbnail);
+                    bytesAfter.addAndGet(Files.size(target));
+                    thumbnailBytes.addAndGet(Files.size(thumbnail));
+                }
+                stored.put(name, hashed);
+            } catch (IOException e) {
+                LOG.warn("Could not store screenshot {}: {}", original, e.getMessage());
+            }
+        });
+
+        references.forEach((outcome, names) -> {
+            rewriteReferences(outcome.json(), stored);
+            outcome.save();
+        });
+        for (String name : screenshots) {
+            String hashed = stored.get(name);
+            if (hashed != null && !fileName(name).equals(hashed)) {
+                Files.deleteIfExists(directory.resolve(fileName(name)));
+                Files.deleteIfExists(directory.resolve("thumbnail_" + fileName(name)));
+            }
+        }
+        writeSummary(screenshots.size(), written.size(), bytesBefore.get(), bytesAfter.get(), thumbnailBytes.get());
+    }
+
+    private static void collectReferences(JsonElement element, Set<String> names) {
+        if (element.isJsonArray()) {
+            element.getAsJsonArray().forEach(child -> collectReferences(child, names));
+        } else if (element.isJsonObject()) {
+            element.getAsJsonObject().entrySet().forEach(entry -> {
+                referenceIn(entry.getKey(), entry.getValue()).ifPresent(names::add);
+                collectReferences(entry.getValue(), names);
+            });
+        }
+    }
+
+    private static void rewriteReferences(JsonElement element, Map<String, String> stored) {
+        if (element.isJsonArray()) {
+            element.getAsJsonArray().forEach(child -> rewriteReferences(child, stored));
+        } else if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            for (String key : Set.copyOf(object.keySet())) {
+                JsonElement value = object.get(key);
+                Optional<String> reference = referenceIn(key, value);
+                if (reference.isPresent() && stored.containsKey(reference.get())) {
+                    String name = reference.get();
+                    object.addProperty(key, name.substring(0, name.length() - fileName(name).length()) + stored.get(name));
+                } else {
+                    rewriteReferences(value, stored);
+                }
+            }
+        }
+    }
+
+    private static Optional<String> referenceIn(String key, JsonElement value) {
+        if (REFERENCE_KEYS.contains(key) && value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()) {
+            String name = value.getAsString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+                return Optional.of(value.getAsString());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether a reference already names a stored image, from an earlier run whose
+     * outcomes are still in the output directory. Decoding and re-encoding it again
+     * would lose quality on every pass.
+     */
+    private static boolean isStored(String reference) {
+        return STORED_NAME.matcher(fileName(reference)).matches();
+    }
+
+    private static String fileName(String reference) {
+        return Path.of(reference).getFileName().toString();
+    }
+
+    private static String hashOf(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(ByteBuffer.allocate(8).putInt(width).putInt(height).array());
+            int[] row = new int[width];
+            ByteBuffer bytes = ByteBuffer.allocate(width * 4);
+            for (int y = 0; y < height; y++) {
+                image.getRGB(0, y, width, 1, row, 0, width);
+                bytes.clear();
+                bytes.asIntBuffer().put(row);
+                digest.update(bytes.array());
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BufferedImage thumbnailOf(BufferedImage image) {
+        int width = Math.min(thumbnailWidth, image.getWidth());
+        int height = Math.max(1, image.getHeight() * width / image.getWidth());
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return thumbnail;
+    }
+
+    private void write(BufferedImage image, Path target) throws IOException {
+        if (!"jpg".equals(format)) {
+            ImageIO.write(image, format, target.toFile());
+            return;
+        }
+        BufferedImage opaque = image;
+        if (image.getType() != BufferedImage.TYPE_INT_RGB) {
+            opaque = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = opaque.createGraphics();
+            graphics.drawImage(image, 0, 0, null);
+            graphics.dispose();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam parameters = writer.getDefaultWriteParam();
+        parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        parameters.setCompressionQuality(quality);
+        Files.deleteIfExists(target);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(opaque, null, null), parameters);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private void writeSummary(int screenshots, int distinct, long bytesBefore, long imageBytes, long thumbnailBytes) {
+        long bytesAfter = imageBytes + thumbnailBytes;
+        String summary = String.format(Locale.ROOT, "# Screenshot store%n%n| Measure | Value |%n|---|---:|%n"
+                        + "| Screenshots referenced | %d |%n| Distinct images | %d |%n| Format | %s (quality %.2f) |%n"
+                        + "| Size before, with thumbnails (KB) | %.1f |%n| Images after (KB) | %.1f |%n"
+                        + "| Thumbnails after (KB) | %.1f |%n| Size after, with thumbnails (KB) | %.1f |%n",
+                screenshots, distinct, format, quality, bytesBefore / 1024.0, imageBytes / 1024.0,
+                thumbnailBytes / 1024.0, bytesAfter / 1024.0);
+        try {
+            Files.createDirectories(SUMMARY_FILE.getParent());
+            Files.writeString(SUMMARY_FILE, summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOG.info("Stored {} screenshots as {} distinct {} images: {} KB down to {} KB",
+                screenshots, distinct, format, bytesBefore / 1024, bytesAfter / 1024);
+    }
+}
@@ -0,0 +1,155 @@
+package todomvc.report;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reads and rewrites the JSON test outcomes that Serenity writes to its output
+ * directory, so build-time tools can post-process them before the {@code aggregate}
+ * goal turns them into the HTML report.
+ */
+public final class SerenityOutcomes {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SerenityOutcomes.class);
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    /**
+     * A test outcome and the file it was read from.
+     */
+    public record Outcome(Path file, JsonObject json) {
+
+        public String id() {
+            if (json.has("id")) {
+                return json.get("id").getAsString();
+            }
+            return storyName() + ":" + title();
+        }
+
+        public String title() {
+            return json.has("title") ? json.get("title").getAsString() : json.get("name").getAsString();
+        }
+
+        public String storyName() {
+            JsonObject story = json.getAsJsonObject("userStory");
+            return story != null && story.has("storyName") ? story.get("storyName").getAsString() : "";
+        }
+
+        public long duration() {
+            return json.get("duration").getAsLong();
+        }
+
+        public List<JsonObject> steps() {
+            List<JsonObject> steps = new ArrayList<>();
+            if (json.has("testSteps")) {
+                json.getAsJsonArray("testSteps").forEach(step -> steps.add(step.getAsJsonObject()));
+            }
+            return steps;
+        }
+
+        public void addTag(String name, String type) {
+            if (!json.has("tags")) {
+                json.add("tags", new JsonArray());
+            }
+            for (JsonElement tag : json.getAsJsonArray("tags")) {
+                if (name.equals(tag.getAsJsonObject().get("name").getAsString())) {
+                    return;
+                }
+            }
+            JsonObject tag = new JsonObject();
+            tag.addProperty("name", name);
+            tag.addProperty("type", type);
+            tag.addProperty("displayName", name);
+            json.getAsJsonArray("tags").add(tag);
+        }
+
+        /**
+         * Mark the outcome as run in a context, such as a browser engine, so outcomes of
+         * the same test in different contexts can sit side by side in one report.
+         */
+        public void setContext(String context) {
+            if (json.has("context") && context.equals(json.get("context").getAsString())
+                    && id().startsWith(context + ":")) {
+                return;
+            }
+            json.addProperty("id", context + ":" + id());
+            json.addProperty("context", context);
+        }
+
+        /**
+         * Write the outcome to another file, which later saves also go to.
+         */
+        public Outcome saveAs(Path target) {
+            Outcome moved = new Outcome(target, json);
+            moved.save();
+            return moved;
+        }
+
+        public void save() {
+            try {
+                Files.writeString(file, GSON.toJson(json), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not rewrite test outcome " + file, e);
+            }
+        }
+    }
+
+    private SerenityOutcomes() {
+    }
+
+    /**
+     * The Serenity output directory, as configured for the build.
+     */
+    public static Path outputDirectory() {
+        return Path.of(System.getProperty("serenity.outputDirectory", "target/site/serenity"));
+    }
+
+    /**
+     * All test outcomes in the directory. Other JSON files are ignored.
+     */
+    public static List<Outcome> in(Path outputDirectory) {
+        if (!Files.isDirectory(outputDirectory)) {
+            return List.of();
+        }
+        List<Outcome> outcomes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(outputDirectory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                 .sorted()
+                 .forEach(file -> read(file).ifPresent(outcomes::add));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list test outcomes in " + outputDirectory, e);
+        }
+        return outcomes;
+    }
+
+    private static Optional<Outcome> read(Path file) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonElement json = JsonParser.parseReader(reader);
+            if (json.isJsonObject()
+                    && json.getAsJsonObject().has("duration")
+                    && (json.getAsJsonObject().has("name") || json.getAsJsonObject().has("title"))) {
+                return Optional.of(new Outcome(file, json.getAsJsonObject()));
+            }
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            LOG.debug("Skipping {}: not a test outcome ({})", file, e.getMessage());
+        }
+        return Optional.empty();
+    }
+}
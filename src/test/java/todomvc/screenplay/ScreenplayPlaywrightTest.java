@@ -9,6 +9,9 @@ import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywrigh
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import todomvc.SerenityPlaywrightTest;
+import todomvc.browser.BrowserProfile;
+import todomvc.browser.NetworkProfile;
+import todomvc.performance.LeakMonitor;
 
 /**
  * Base test class for Screenplay-based Playwright tests.
@@ -22,16 +25,25 @@ import todomvc.SerenityPlaywrightTest;
  * <p>
  * <b>No explicit teardown is required.</b> {@code @UsePlaywright} manages the browser
  * lifecycle, and the ability unregisters cleanly without closing external resources.
+ * <p>
+ * The browser options are shared with {@link SerenityPlaywrightTest}, so these tests
+ * also connect to the shared browser server when the build provides one, and
+ * follow the selected {@link BrowserProfile} and {@link NetworkProfile}, and the {@link LeakMonitor} checks that
+ * nothing stays open after each test.
  */
+@ExtendWith(LeakMonitor.class)
 @ExtendWith(SerenityJUnit5Extension.class)
 @ExtendWith(SerenityPlaywrightExtension.class)
-@UsePlaywright(SerenityPlaywrightTest.ChromeHeadlessOptions.class)
+@UsePlaywright(SerenityPlaywrightTest.HeadlessBrowserOptions.class)
 public abstract class ScreenplayPlaywrightTest {
 
     protected Actor toby;
 
     @BeforeEach
     void setUpPlaywright(Page page) {
+        BrowserProfile.current().applyTo(page.context());
+        NetworkProfile.current().applyTo(page.context());
+        LeakMonitor.watch(page.context().browser());
         toby = Actor.named("Toby");
         toby.can(BrowseTheWebWithPlaywright.withPage(page));
     }
@@ -1,14 +1,22 @@
 package todomvc.screenplay;
 
+import net.serenitybdd.screenplay.Interaction;
+import net.serenitybdd.screenplay.Performable;
+import net.serenitybdd.screenplay.Question;
 import net.serenitybdd.screenplay.ensure.Ensure;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import todomvc.screenplay.abilities.ControlTheClock;
 import todomvc.screenplay.questions.TheRemainingCount;
 import todomvc.screenplay.questions.TheTodoItem;
 import todomvc.screenplay.questions.TheVisibleTodos;
 import todomvc.screenplay.tasks.AddATodoItem;
+import todomvc.screenplay.tasks.FastForward;
 import todomvc.screenplay.tasks.OpenTodoMvcApp;
 
+import java.time.Duration;
+
 /**
  * Screenplay-based tests for adding todo items.
  *
@@ -31,6 +39,39 @@ class WhenAddingTodosScreenplayTest extends ScreenplayPlaywrightTest {
         );
     }
 
+    @Test
+    @DisplayName("should fire app timers only when the clock passes them, keeping added todos")
+    void shouldKeepAddedTodosAsTimePasses() {
+        toby.can(ControlTheClock.ofTheApp());
+        toby.attemptsTo(
+            OpenTodoMvcApp.onTheTodoMvcHomePage(),
+            AddATodoItem.called("Buy milk"),
+            aTimerSetFor(Duration.ofMinutes(30)),
+            Ensure.that(theTimerHasFired()).isFalse(),
+
+            FastForward.by(Duration.ofMinutes(29)),
+            Ensure.that(theTimerHasFired()).isFalse(),
+
+            FastForward.by(Duration.ofMinutes(2)),
+            Ensure.that(theTimerHasFired()).isTrue(),
+            Ensure.that(TheVisibleTodos.displayed()).containsExactly("Buy milk"),
+            Ensure.that(TheRemainingCount.value()).isEqualTo(1)
+        );
+    }
+
+    private static Performable aTimerSetFor(Duration delay) {
+        return Interaction.where("{0} sets a page timer for " + delay.toMinutes() + " minutes",
+            actor -> BrowseTheWebWithPlaywright.as(actor).getCurrentPage()
+                .evaluate("delay => setTimeout(() => window.timerFired = true, delay)", delay.toMillis())
+        );
+    }
+
+    private static Question<Boolean> theTimerHasFired() {
+        return Question.about("whether the page timer has fired").answeredBy(
+            actor -> (Boolean) BrowseTheWebWithPlaywright.as(actor).getCurrentPage().evaluate("() => window.timerFired === true")
+        );
+    }
+
     @Test
     @DisplayName("should add multiple todo items")
     void shouldAddMultipleTodoItems() {
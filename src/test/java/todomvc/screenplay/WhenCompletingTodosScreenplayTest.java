@@ -1,6 +1,7 @@
 package todomvc.screenplay;
 
 import net.serenitybdd.screenplay.ensure.Ensure;
+import net.serenitybdd.screenplay.playwright.interactions.Click;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import todomvc.screenplay.tasks.ClearCompletedTodos;
 import todomvc.screenplay.tasks.Complete;
 import todomvc.screenplay.tasks.OpenTodoMvcApp;
 import todomvc.screenplay.tasks.ToggleAll;
+import todomvc.screenplay.ui.TodoList;
 
 /**
  * Screenplay-based tests for completing todo items.
@@ -43,6 +45,16 @@ class WhenCompletingTodosScreenplayTest extends ScreenplayPlaywrightTest {
         );
     }
 
+    @Test
+    @DisplayName("should answer again after a built-in interaction changes the page")
+    void shouldAnswerAgainAfterABuiltInInteraction() {
+        toby.attemptsTo(
+            Ensure.that(TheRemainingCount.value()).isEqualTo(3),
+            Click.on(TodoList.checkboxFor("Buy milk")),
+            Ensure.that(TheRemainingCount.value()).isEqualTo(2)
+        );
+    }
+
     @Test
     @DisplayName("should show the Clear Completed button when todos are completed")
     void shouldShowClearCompletedButton() {
@@ -0,0 +1,91 @@
+package todomvc.screenplay.abilities;
+
+import com.microsoft.playwright.Page;
+import net.serenitybdd.screenplay.Ability;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import todomvc.browser.VirtualClock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Ability to control the app's clock, so that timers and debounces are jumped over
+ * rather than waited for.
+ * <p>
+ * The {@link VirtualClock} is installed on the actor's current page when the actor
+ * opens the TodoMVC application, or on first use, once per page.
+ * <p>
+ * Usage:
+ * <pre>
+ *   toby.can(ControlTheClock.ofTheApp());
+ *   toby.attemptsTo(OpenTodoMvcApp.onTheTodoMvcHomePage(), FastForward.by(Duration.ofSeconds(5)));
+ * </pre>
+ */
+public class ControlTheClock implements Ability {
+
+    private final Instant startingAt;
+    private final Set<Page> installedOn = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>())
+    );
+
+    public ControlTheClock(Instant startingAt) {
+        this.startingAt = startingAt;
+    }
+
+    public static ControlTheClock ofTheApp() {
+        return new ControlTheClock(null);
+    }
+
+    /**
+     * Control the clock with the app's time starting at a fixed instant.
+     */
+    public static ControlTheClock startingAt(Instant startingAt) {
+        return new ControlTheClock(startingAt);
+    }
+
+    public static ControlTheClock as(Actor actor) {
+        ControlTheClock clock = actor.abilityTo(ControlTheClock.class);
+        if (clock == null) {
+            throw new IllegalStateException(actor.getName() + " cannot control the clock; "
+                + "give them ControlTheClock.ofTheApp() first");
+        }
+        return clock;
+    }
+
+    /**
+     * Install the clock on the actor's current page, if it has this ability.
+     */
+    public static void installIfAble(Actor actor) {
+        ControlTheClock clock = actor.abilityTo(ControlTheClock.class);
+        if (clock != null) {
+            clock.installOn(BrowseTheWebWithPlaywright.as(actor).getCurrentPage());
+        }
+    }
+
+    /**
+     * Install the clock on a page. Installing twice is a no-op.
+     */
+    public void installOn(Page page) {
+        if (installedOn.add(page)) {
+            if (startingAt == null) {
+                VirtualClock.install(page);
+            } else {
+                VirtualClock.install(page, startingAt);
+            }
+        }
+    }
+
+    public Duration fastForward(Page page, Duration by) {
+        installOn(page);
+        return VirtualClock.fastForward(page, by);
+    }
+
+    @Override
+    public String toString() {
+        return "control the app clock";
+    }
+}
@@ -0,0 +1,68 @@
+package todomvc.screenplay.abilities;
+
+import com.microsoft.playwright.BrowserContext;
+import net.serenitybdd.screenplay.Ability;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import todomvc.browser.NetworkProfile;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Ability to browse under the conditions of a {@link NetworkProfile}, whatever
+ * profile the rest of the run uses.
+ * <p>
+ * The conditions are applied to the context of the actor's current page when the
+ * actor opens the TodoMVC application, once per context.
+ * <p>
+ * Usage:
+ * <pre>
+ *   toby.can(SimulateNetworkConditions.of(NetworkProfile.THREE_G));
+ *   toby.attemptsTo(OpenTodoMvcApp.onTheTodoMvcHomePage());
+ * </pre>
+ */
+public class SimulateNetworkConditions implements Ability {
+
+    private final NetworkProfile profile;
+    private final Set<BrowserContext> appliedTo = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>())
+    );
+
+    public SimulateNetworkConditions(NetworkProfile profile) {
+        this.profile = profile;
+    }
+
+    public static SimulateNetworkConditions of(NetworkProfile profile) {
+        return new SimulateNetworkConditions(profile);
+    }
+
+    /**
+     * Apply the actor's network conditions to its current page, if it has this ability.
+     */
+    public static void applyIfAble(Actor actor) {
+        SimulateNetworkConditions conditions = actor.abilityTo(SimulateNetworkConditions.class);
+        if (conditions != null) {
+            conditions.applyTo(BrowseTheWebWithPlaywright.as(actor).getCurrentPage().context());
+        }
+    }
+
+    public NetworkProfile profile() {
+        return profile;
+    }
+
+    /**
+     * Apply the conditions to a context. Applying twice is a no-op.
+     */
+    public void applyTo(BrowserContext context) {
+        if (appliedTo.add(context)) {
+            profile.applyTo(context);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "browse on a " + profile.label() + " network";
+    }
+}
@@ -0,0 +1,152 @@
+package todomvc.screenplay.abilities;
+
+import com.microsoft.playwright.ConsoleMessage;
+import com.microsoft.playwright.Page;
+import net.serenitybdd.screenplay.Ability;
+import net.serenitybdd.screenplay.Actor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ability to keep a running tally of browser console messages by severity.
+ * <p>
+ * Messages are counted as they arrive, using one {@link LongAdder} per severity,
+ * so questions such as "how many errors?" or "were there any warnings?" are
+ * answered without copying or filtering message lists. The most recent messages
+ * are kept in a bounded ring buffer, and message texts are interned so that
+ * repeated noisy logs share a single string.
+ * <p>
+ * Usage:
+ * <pre>
+ *   actor.attemptsTo(CountConsoleMessages.duringTest());
+ *   actor.asksFor(TheConsoleTally.errorCount());
+ * </pre>
+ */
+public class TallyConsoleMessages implements Ability {
+
+    public enum Severity { ERROR, WARNING, INFO, LOG, DEBUG, OTHER }
+
+    public record Entry(Severity severity, String type, String text) {}
+
+    private static final int DEFAULT_CAPACITY = 500;
+    private static final int MAX_INTERNED_MESSAGES = 10_000;
+
+    private final LongAdder[] counters = new LongAdder[Severity.values().length];
+    private final AtomicReferenceArray<Entry> recent;
+    private final AtomicLong written = new AtomicLong();
+    private final Map<String, String> internedTexts = new ConcurrentHashMap<>();
+    private final Set<Page> attachedPages = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>())
+    );
+
+    public TallyConsoleMessages(int capacity) {
+        this.recent = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    public static TallyConsoleMessages keepingTheLast(int capacity) {
+        return new TallyConsoleMessages(capacity);
+    }
+
+    /**
+     * Return the actor's tally, giving the actor a default one if needed.
+     */
+    public static TallyConsoleMessages as(Actor actor) {
+        TallyConsoleMessages tally = actor.abilityTo(TallyConsoleMessages.class);
+        if (tally == null) {
+            tally = new TallyConsoleMessages(DEFAULT_CAPACITY);
+            actor.can(tally);
+        }
+        return tally;
+    }
+
+    /**
+     * Start counting the console messages of a page. Attaching twice is a no-op.
+     */
+    public void attachTo(Page page) {
+        if (attachedPages.add(page)) {
+            page.onConsoleMessage(this::record);
+        }
+    }
+
+    void record(ConsoleMessage message) {
+        Severity severity = severityOf(message.type());
+        counters[severity.ordinal()].increment();
+
+        long slot = written.getAndIncrement();
+        recent.set((int) (slot % recent.length()), new Entry(severity, message.type(), intern(message.text())));
+    }
+
+    public long count(Severity severity) {
+        return counters[severity.ordinal()].sum();
+    }
+
+    public long total() {
+        long total = 0;
+        for (LongAdder counter : counters) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    /**
+     * The retained messages, oldest first. At most the configured capacity is kept.
+     */
+    public List<Entry> recentMessages() {
+        long end = written.get();
+        long start = Math.max(0, end - recent.length());
+        List<Entry> entries = new ArrayList<>((int) (end - start));
+        for (long slot = start; slot < end; slot++) {
+            Entry entry = recent.get((int) (slot % recent.length()));
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    public void reset() {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        written.set(0);
+        for (int i = 0; i < recent.length(); i++) {
+            recent.set(i, null);
+        }
+    }
+
+    private String intern(String text) {
+        if (internedTexts.size() >= MAX_INTERNED_MESSAGES) {
+            return internedTexts.getOrDefault(text, text);
+        }
+        String existing = internedTexts.putIfAbsent(text, text);
+        return existing == null ? text : existing;
+    }
+
+    private static Severity severityOf(String type) {
+        return switch (type) {
+            case "error", "assert" -> Severity.ERROR;
+            case "warning" -> Severity.WARNING;
+            case "info" -> Severity.INFO;
+            case "log" -> Severity.LOG;
+            case "debug", "trace" -> Severity.DEBUG;
+            default -> Severity.OTHER;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "tally console messages";
+    }
+}
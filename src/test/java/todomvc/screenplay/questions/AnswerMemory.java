@@ -0,0 +1,205 @@
+package todomvc.screenplay.questions;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.microsoft.playwright.Page;
+import net.serenitybdd.core.eventbus.Broadcaster;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Performable;
+import net.serenitybdd.screenplay.events.ActorPerforms;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Remembers an actor's answers to TodoMVC questions until the page changes.
+ * <p>
+ * Several {@code Ensure.that(...)} checks in a row often ask the same question
+ * about a page that has not changed in between. Questions in this package look
+ * their answer up here first, so only the first check goes to the browser.
+ * </p>
+ * <p>
+ * Answers are forgotten whenever the actor performs anything other than an
+ * {@code Ensure} check: a TodoMVC task, or a built-in interaction such as
+ * {@code Click} or {@code Enter} performed directly. Serenity announces every
+ * performable an actor starts with an {@code ActorPerforms} event on the event bus
+ * of the thread performing it, which is counted per actor. Each worker thread
+ * subscribes to its own bus the first time it asks a question here. An answer is also only reused by a later
+ * performable than the one that asked it, so a check that polls its question
+ * reads the page each time. Answers are forgotten, too, when the actor's current
+ * page changes and when the page navigates to another URL. Questions annotated with
+ * {@link VolatileAnswer} are never remembered. Set {@code todomvc.questions.memoize=false} to ask every
+ * question again each time.
+ * </p>
+ * <p>
+ * The number of answers served from memory, and so browser round trips saved,
+ * is logged per worker thread when the JVM exits.
+ * </p>
+ */
+public final class AnswerMemory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AnswerMemory.class);
+
+    private static final String ENABLED_PROPERTY = "todomvc.questions.memoize";
+    private static final String NOTE = AnswerMemory.class.getName();
+
+    private static final LongAdder ASKED = new LongAdder();
+    private static final LongAdder REMEMBERED = new LongAdder();
+    private static final Map<String, Worker> WORKERS = new ConcurrentHashMap<>();
+    private static final String CHECKS_PACKAGE = "net.serenitybdd.screenplay.ensure";
+
+    /**
+     * Per thread and actor name: the performables started, and those of them that may have changed the page.
+     */
+    private static final ThreadLocal<Map<String, long[]>> PERFORMANCES = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * The event bus this thread's performances are counted on. Serenity keeps one bus per thread.
+     */
+    private static final ThreadLocal<EventBus> COUNTED_BUS = new ThreadLocal<>();
+    private static final PerformanceCounter COUNTER = new PerformanceCounter();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(AnswerMemory::logSummary, "answer-memory-summary"));
+    }
+
+    private record Remembered(Object value, long performance, long changes) {}
+
+    private record Worker(LongAdder asked, LongAdder remembered) {
+        Worker() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+
+    static final class PerformanceCounter {
+
+        @Subscribe
+        public void performing(ActorPerforms event) {
+            long[] counts = PERFORMANCES.get().computeIfAbsent(event.getActor(), name -> new long[2]);
+            counts[0]++;
+            if (!isCheck(event.getPerformable())) {
+                counts[1]++;
+            }
+        }
+    }
+
+    private final Map<String, Remembered> answers = new HashMap<>();
+    private Page page;
+    private String url;
+
+    private AnswerMemory() {
+    }
+
+    public static boolean isEnabled() {
+        return SystemEnvironmentVariables.currentEnvironmentVariables()
+                .getPropertyAsBoolean(ENABLED_PROPERTY, true);
+    }
+
+    /**
+     * The answer to a question identified by {@code key}, from memory if the actor
+     * has already asked it about the current page state.
+     */
+    public static <T> T answer(Actor actor, String key, Supplier<T> question) {
+        return answer(actor, null, key, question);
+    }
+
+    /**
+     * As {@link #answer(Actor, String, Supplier)}, unless the class of
+     * {@code question} is annotated with {@link VolatileAnswer}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T answer(Actor actor, Object question, String key, Supplier<T> answer) {
+        ASKED.increment();
+        Worker worker = WORKERS.computeIfAbsent(Thread.currentThread().getName(), name -> new Worker());
+        worker.asked().increment();
+        if (!isEnabled() || (question != null && question.getClass().isAnnotationPresent(VolatileAnswer.class))) {
+            return answer.get();
+        }
+        countPerformancesOnThisThread();
+        AnswerMemory memory = of(actor);
+        memory.forgetIfPageChanged(BrowseTheWebWithPlaywright.as(actor).getCurrentPage());
+        long[] counts = PERFORMANCES.get().getOrDefault(actor.getName(), new long[2]);
+        Remembered remembered = memory.answers.get(key);
+        if (remembered != null && remembered.changes() == counts[1] && remembered.performance() != counts[0]) {
+            REMEMBERED.increment();
+            worker.remembered().increment();
+            return (T) remembered.value();
+        }
+        T value = answer.get();
+        memory.answers.put(key, new Remembered(value, counts[0], counts[1]));
+        return value;
+    }
+
+    /**
+     * Forget everything the actor has remembered, for example because it is about
+     * to change the page.
+     */
+    public static void forget(Actor actor) {
+        AnswerMemory memory = actor.recall(NOTE);
+        if (memory != null) {
+            memory.answers.clear();
+        }
+    }
+
+    public static long roundTripsSaved() {
+        return REMEMBERED.sum();
+    }
+
+    /**
+     * Whether a performable only checks the page: the {@code Ensure} expectations,
+     * or an instrumented subclass of one.
+     */
+    private static boolean isCheck(Performable performable) {
+        for (Class<?> type = performable.getClass(); type != null; type = type.getSuperclass()) {
+            if (type.getPackageName().equals(CHECKS_PACKAGE) || type.getPackageName().startsWith(CHECKS_PACKAGE + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void countPerformancesOnThisThread() {
+        EventBus bus = Broadcaster.getEventBus();
+        if (COUNTED_BUS.get() != bus) {
+            bus.register(COUNTER);
+            COUNTED_BUS.set(bus);
+        }
+    }
+
+    private static AnswerMemory of(Actor actor) {
+        AnswerMemory memory = actor.recall(NOTE);
+        if (memory == null) {
+            memory = new AnswerMemory();
+            actor.remember(NOTE, memory);
+        }
+        return memory;
+    }
+
+    private void forgetIfPageChanged(Page currentPage) {
+        // Page.url() is tracked on the client, so this check costs no round trip
+        String currentUrl = currentPage.url();
+        if (currentPage != page || !currentUrl.equals(url)) {
+            answers.clear();
+            page = currentPage;
+            url = currentUrl;
+        }
+    }
+
+    private static void logSummary() {
+        long asked = ASKED.sum();
+        if (asked > 0) {
+            LOG.info("Question memoization: {} of {} answers came from memory, saving at least {} browser round trips",
+                    REMEMBERED.sum(), asked, REMEMBERED.sum());
+            new TreeMap<>(WORKERS).forEach((thread, worker) ->
+                    LOG.info("  {}: {} of {} answers from memory", thread, worker.remembered().sum(), worker.asked().sum()));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package todomvc.screenplay.questions;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes JSON documents as they are read, without building a tree of maps and lists.
+ * <p>
+ * Values are bound straight from a Gson {@link JsonReader} to the requested types
+ * (records, enums, strings, numbers and lists of them), skipping the fields the type
+ * does not declare. Array elements are decoded one at a time as a stream is
+ * consumed, and a JSON pointer (RFC 6901) skips everything that lies before the
+ * value it names.
+ * </p>
+ */
+public final class StreamingJson {
+
+    private static final Gson GSON = new Gson();
+
+    private StreamingJson() {
+    }
+
+    /**
+     * Bind the whole document to a type.
+     */
+    public static <T> T read(String json, Class<T> type) {
+        try (JsonReader reader = readerOf(new StringReader(json))) {
+            return GSON.fromJson(reader, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The elements of a top-level array, decoded lazily as the stream is consumed.
+     * Close the stream, or consume it fully, to release the reader.
+     */
+    public static <T> Stream<T> elements(String json, Class<T> type) {
+        return elements(new StringReader(json), type);
+    }
+
+    public static <T> Stream<T> elements(Reader json, Class<T> type) {
+        JsonReader reader = readerOf(json);
+        try {
+            reader.beginArray();
+        } catch (IOException | IllegalStateException e) {
+            close(reader);
+            throw new JsonParseException("Expected a JSON array", e);
+        }
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!reader.hasNext()) {
+                        reader.endArray();
+                        return false;
+                    }
+                    action.accept(GSON.fromJson(reader, type));
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> close(reader));
+    }
+
+    /**
+     * The number of elements in a top-level array, counted without decoding them.
+     */
+    public static int count(String json) {
+        try (JsonReader reader = readerOf(new StringReader(json))) {
+            int count = 0;
+            reader.beginArray();
+            while (reader.hasNext()) {
+                reader.skipValue();
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The value at a JSON pointer such as {@code /headers/Accept} or {@code /0/title},
+     * bound to a type, or empty when the document has no such value.
+     */
+    public static <T> Optional<T> at(String json, String pointer, Class<T> type) {
+        try (JsonReader reader = readerOf(new StringReader(json))) {
+            if (!moveTo(reader, tokensOf(pointer))) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(GSON.fromJson(reader, type));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean moveTo(JsonReader reader, List<String> tokens) throws IOException {
+        for (String token : tokens) {
+            JsonToken next = reader.peek();
+            if (next == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                if (!skipToName(reader, token)) {
+                    return false;
+                }
+            } else if (next == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                if (!skipToIndex(reader, token)) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean skipToName(JsonReader reader, String name) throws IOException {
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(name)) {
+                return true;
+            }
+            reader.skipValue();
+        }
+        return false;
+    }
+
+    private static boolean skipToIndex(JsonReader reader, String token) throws IOException {
+        if (!token.matches("0|[1-9][0-9]*")) {
+            return false;
+        }
+        int index = Integer.parseInt(token);
+        for (int i = 0; i < index; i++) {
+            if (!reader.hasNext()) {
+                return false;
+            }
+            reader.skipValue();
+        }
+        return reader.hasNext();
+    }
+
+    private static List<String> tokensOf(String pointer) {
+        if (pointer.isEmpty()) {
+            return List.of();
+        }
+        if (!pointer.startsWith("/")) {
+            throw new IllegalArgumentException("A JSON pointer starts with '/': " + pointer);
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : pointer.substring(1).split("/", -1)) {
+            tokens.add(token.replace("~1", "/").replace("~0", "~"));
+        }
+        return tokens;
+    }
+
+    private static JsonReader readerOf(Reader json) {
+        return new JsonReader(json);
+    }
+
+    private static void close(JsonReader reader) {
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+            // Reading from memory; nothing to release
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package todomvc.screenplay.questions;
+
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Question;
+import todomvc.screenplay.tasks.CachedAPIRequest;
+import todomvc.screenplay.tasks.CachedResponse;
+
+/**
+ * Questions about the last response an actor received through {@link CachedAPIRequest}.
+ * JSON bodies are decoded with {@link StreamingJson}.
+ *
+ * Usage:
+ *   actor.attemptsTo(Ensure.that(TheCachedResponse.statusCode()).isEqualTo(200));
+ *   actor.attemptsTo(Ensure.that(TheCachedResponse.servedFromCache()).isTrue());
+ *   Post post = actor.asksFor(TheCachedResponse.as(Post.class));
+ */
+public class TheCachedResponse {
+
+    public static Question<Integer> statusCode() {
+        return Question.about("the cached response status code").answeredBy(
+            actor -> lastResponseOf(actor).status()
+        );
+    }
+
+    public static Question<String> header(String name) {
+        return Question.about("the cached response " + name + " header").answeredBy(
+            actor -> lastResponseOf(actor).header(name)
+        );
+    }
+
+    public static Question<String> body() {
+        return Question.about("the cached response body").answeredBy(
+            actor -> lastResponseOf(actor).text()
+        );
+    }
+
+    public static Question<Boolean> servedFromCache() {
+        return Question.about("whether the response was served from the cache").answeredBy(
+            actor -> lastResponseOf(actor).fromCache()
+        );
+    }
+
+    public static <T> Question<T> as(Class<T> type) {
+        return Question.about("the cached response body as " + type.getSimpleName()).answeredBy(
+            actor -> StreamingJson.read(lastResponseOf(actor).text(), type)
+        );
+    }
+
+    public static <T> Question<T> at(String pointer, Class<T> type) {
+        return Question.about("the cached response value at " + pointer).answeredBy(
+            actor -> StreamingJson.at(lastResponseOf(actor).text(), pointer, type).orElse(null)
+        );
+    }
+
+    private static CachedResponse lastResponseOf(Actor actor) {
+        CachedResponse response = actor.recall(CachedAPIRequest.LAST_RESPONSE);
+        if (response == null) {
+            throw new IllegalStateException(actor.getName() + " has not sent a CachedAPIRequest yet");
+        }
+        return response;
+    }
+}
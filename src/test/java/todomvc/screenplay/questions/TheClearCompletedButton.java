@@ -18,6 +18,10 @@ public class TheClearCompletedButton implements Question<Boolean> {
     @Override
     @Step("{0} checks if the Clear Completed button is visible")
     public Boolean answeredBy(Actor actor) {
+        return AnswerMemory.answer(actor, this, "clear-completed-visible", () -> isVisibleTo(actor));
+    }
+
+    private Boolean isVisibleTo(Actor actor) {
         Locator button = BrowseTheWebWithPlaywright.as(actor)
             .getCurrentPage()
             .locator(TodoList.CLEAR_COMPLETED_BUTTON.asSelector());
@@ -0,0 +1,60 @@
+package todomvc.screenplay.questions;
+
+import net.serenitybdd.screenplay.Question;
+import todomvc.screenplay.abilities.TallyConsoleMessages;
+import todomvc.screenplay.abilities.TallyConsoleMessages.Entry;
+import todomvc.screenplay.abilities.TallyConsoleMessages.Severity;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Questions about the console messages counted by {@link TallyConsoleMessages}.
+ * Counts are read straight from the running tally, without copying message lists.
+ *
+ * Usage:
+ *   actor.attemptsTo(Ensure.that(TheConsoleTally.errorCount()).isEqualTo(0));
+ *   actor.attemptsTo(Ensure.that(TheConsoleTally.hasNoWarnings()).isTrue());
+ */
+public class TheConsoleTally {
+
+    public static Question<Integer> errorCount() {
+        return countOf(Severity.ERROR);
+    }
+
+    public static Question<Integer> warningCount() {
+        return countOf(Severity.WARNING);
+    }
+
+    public static Question<Integer> countOf(Severity severity) {
+        return Question.about("the number of console " + severity.name().toLowerCase(Locale.ROOT) + " messages").answeredBy(
+            actor -> (int) TallyConsoleMessages.as(actor).count(severity)
+        );
+    }
+
+    public static Question<Integer> total() {
+        return Question.about("the number of console messages").answeredBy(
+            actor -> (int) TallyConsoleMessages.as(actor).total()
+        );
+    }
+
+    public static Question<Boolean> hasNoErrors() {
+        return Question.about("whether the console is free of errors").answeredBy(
+            actor -> TallyConsoleMessages.as(actor).count(Severity.ERROR) == 0
+        );
+    }
+
+    public static Question<Boolean> hasNoWarnings() {
+        return Question.about("whether the console is free of warnings").answeredBy(
+            actor -> TallyConsoleMessages.as(actor).count(Severity.WARNING) == 0
+        );
+    }
+
+    public static Question<List<String>> recentMessages() {
+        return Question.about("the most recent console messages").answeredBy(
+            actor -> TallyConsoleMessages.as(actor).recentMessages().stream()
+                .map(Entry::text)
+                .toList()
+        );
+    }
+}
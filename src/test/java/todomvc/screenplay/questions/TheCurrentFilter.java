@@ -17,10 +17,10 @@ public class TheCurrentFilter implements Question<String> {
     @Override
     @Step("{0} checks the current filter")
     public String answeredBy(Actor actor) {
-        return BrowseTheWebWithPlaywright.as(actor)
+        return AnswerMemory.answer(actor, this, "current-filter", () -> BrowseTheWebWithPlaywright.as(actor)
             .getCurrentPage()
             .locator(TodoList.SELECTED_FILTER.asSelector())
-            .textContent();
+            .textContent());
     }
 
     public static TheCurrentFilter selected() {
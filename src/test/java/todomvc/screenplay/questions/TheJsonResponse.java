@@ -0,0 +1,76 @@
+package todomvc.screenplay.questions;
+
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Question;
+import net.serenitybdd.screenplay.playwright.questions.api.LastAPIResponse;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Questions about the JSON body of the last API response, decoded by {@link StreamingJson}.
+ * <p>
+ * Unlike {@code LastAPIResponse.jsonBody()} and {@code jsonBodyAsList()}, these do
+ * not turn the body into nested maps: objects are bound straight to typed records,
+ * collections are read one element at a time, and a JSON pointer reads a single
+ * field, skipping the rest of the document.
+ * </p>
+ * <p>
+ * The body itself is not streamed: {@code LastAPIResponse} hands it over as one
+ * {@code String}, and it is the decoding of that string that streams, so the
+ * saving is in the objects built from the body rather than in the body.
+ * </p>
+ *
+ * Usage:
+ *   Post post = actor.asksFor(TheJsonResponse.as(Post.class));
+ *   actor.attemptsTo(Ensure.that(TheJsonResponse.at("/0/userId", Integer.class)).isEqualTo(1));
+ *   actor.attemptsTo(Ensure.that(TheJsonResponse.everyElement(Post.class, post -> post.userId() == 1)).isTrue());
+ */
+public class TheJsonResponse {
+
+    public static <T> Question<T> as(Class<T> type) {
+        return Question.about("the response body as " + type.getSimpleName()).answeredBy(
+            actor -> StreamingJson.read(bodyFor(actor), type)
+        );
+    }
+
+    public static <T> Question<List<T>> elementsAs(Class<T> type) {
+        return Question.about("the response elements as " + type.getSimpleName()).answeredBy(
+            actor -> {
+                try (Stream<T> elements = StreamingJson.elements(bodyFor(actor), type)) {
+                    return elements.toList();
+                }
+            }
+        );
+    }
+
+    /**
+     * Whether every element matches, decoding elements only until one does not.
+     */
+    public static <T> Question<Boolean> everyElement(Class<T> type, Predicate<? super T> condition) {
+        return Question.about("whether every response element matches").answeredBy(
+            actor -> {
+                try (Stream<T> elements = StreamingJson.elements(bodyFor(actor), type)) {
+                    return elements.allMatch(condition);
+                }
+            }
+        );
+    }
+
+    public static Question<Integer> elementCount() {
+        return Question.about("the number of response elements").answeredBy(
+            actor -> StreamingJson.count(bodyFor(actor))
+        );
+    }
+
+    public static <T> Question<T> at(String pointer, Class<T> type) {
+        return Question.about("the response value at " + pointer).answeredBy(
+            actor -> StreamingJson.at(bodyFor(actor), pointer, type).orElse(null)
+        );
+    }
+
+    private static String bodyFor(Actor actor) {
+        return LastAPIResponse.body().answeredBy(actor);
+    }
+}
@@ -22,6 +22,10 @@ public class TheRemainingCount implements Question<Integer> {
     @Override
     @Step("{0} checks the remaining todo count")
     public Integer answeredBy(Actor actor) {
+        return AnswerMemory.answer(actor, this, "remaining-count", () -> readCount(actor));
+    }
+
+    private Integer readCount(Actor actor) {
         var page = BrowseTheWebWithPlaywright.as(actor).getCurrentPage();
         var countLocator = page.locator(TodoList.TODO_COUNT.asSelector());
 
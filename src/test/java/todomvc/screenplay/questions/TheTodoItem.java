@@ -27,10 +27,10 @@ public class TheTodoItem {
     public Question<Boolean> isVisible() {
         String item = todoItem;
         return Question.about("whether '" + item + "' is visible").answeredBy(
-            actor -> BrowseTheWebWithPlaywright.as(actor)
+            actor -> AnswerMemory.answer(actor, "todo-visible:" + item, () -> BrowseTheWebWithPlaywright.as(actor)
                 .getCurrentPage()
                 .locator(TodoList.todoItemCalled(item).asSelector())
-                .isVisible()
+                .isVisible())
         );
     }
 
@@ -41,10 +41,10 @@ public class TheTodoItem {
     public Question<Boolean> exists() {
         String item = todoItem;
         return Question.about("whether '" + item + "' exists").answeredBy(
-            actor -> BrowseTheWebWithPlaywright.as(actor)
+            actor -> AnswerMemory.answer(actor, "todo-exists:" + item, () -> BrowseTheWebWithPlaywright.as(actor)
                 .getCurrentPage()
                 .locator(TodoList.todoItemCalled(item).asSelector())
-                .count() > 0
+                .count() > 0)
         );
     }
 }
@@ -19,19 +19,19 @@ public class TheVisibleTodos {
 
     public static Question<Collection<String>> displayed() {
         return Question.about("the visible todos").answeredBy(
-            actor -> BrowseTheWebWithPlaywright.as(actor)
+            actor -> AnswerMemory.answer(actor, "visible-todos", () -> BrowseTheWebWithPlaywright.as(actor)
                 .getCurrentPage()
                 .locator(TodoList.TODO_ITEM_LABELS.asSelector())
-                .allTextContents()
+                .allTextContents())
         );
     }
 
     public static Question<Integer> count() {
         return Question.about("visible todo count").answeredBy(
-            actor -> BrowseTheWebWithPlaywright.as(actor)
+            actor -> AnswerMemory.answer(actor, "visible-todo-count", () -> BrowseTheWebWithPlaywright.as(actor)
                 .getCurrentPage()
                 .locator(TodoList.TODO_ITEMS.asSelector())
-                .count()
+                .count())
         );
     }
 }
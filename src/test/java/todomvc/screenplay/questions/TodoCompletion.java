@@ -23,11 +23,11 @@ public class TodoCompletion implements Question<Boolean> {
     @Override
     @Step("{0} checks if '#todoItem' is completed")
     public Boolean answeredBy(Actor actor) {
-        return BrowseTheWebWithPlaywright.as(actor)
+        return AnswerMemory.answer(actor, this, "todo-completed:" + todoItem, () -> BrowseTheWebWithPlaywright.as(actor)
             .getCurrentPage()
             .locator(TodoList.todoItemCalled(todoItem).asSelector())
             .getAttribute("class")
-            .contains("completed");
+            .contains("completed"));
     }
 
     public static TodoCompletion of(String todoItem) {
@@ -0,0 +1,22 @@
+package todomvc.screenplay.questions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a question whose answer can change without the actor doing anything,
+ * such as one that reads a clock or a value the page updates by itself.
+ * {@link AnswerMemory} always asks these questions again.
+ *
+ * Usage:
+ *   {@literal @}VolatileAnswer
+ *   public class TheLastSyncTime implements Question&lt;String&gt; { ... }
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface VolatileAnswer {
+}
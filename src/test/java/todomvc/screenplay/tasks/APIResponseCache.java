@@ -0,0 +1,232 @@
+package todomvc.screenplay.tasks;
+
+import net.thucydides.model.environment.SystemEnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The GET responses kept for {@link CachedAPIRequest}, shared by every actor in the JVM.
+ * <p>
+ * Responses are stored by method, URL and the values of the request headers named
+ * in their {@code Vary} header. {@code Cache-Control} is followed as a private cache
+ * would: {@code no-store} responses are never kept, {@code max-age} says how long a
+ * response is served without asking the server again, and {@code no-cache} or an
+ * expired age means it is revalidated with {@code If-None-Match} (or
+ * {@code If-Modified-Since}) first. Responses without a validator or a fresh age
+ * are not kept. The least recently used responses are evicted once the cache
+ * holds more than {@code todomvc.api-cache.max-bytes} of bodies and headers.
+ * </p>
+ * <p>
+ * The cache is opt-in with {@code todomvc.api-cache.enabled}. Its hit rate and the
+ * bytes it saved are logged, and written to {@code target/performance/api-cache.md},
+ * when the JVM exits.
+ * </p>
+ */
+public final class APIResponseCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(APIResponseCache.class);
+
+    private static final String ENABLED_PROPERTY = "todomvc.api-cache.enabled";
+    private static final String MAX_BYTES_PROPERTY = "todomvc.api-cache.max-bytes";
+    private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+    private static final Path SUMMARY_FILE = Path.of("target", "performance", "api-cache.md");
+
+    record Entry(CachedResponse response, long storedAt, Duration maxAge, boolean mustRevalidate) {
+
+        boolean isFresh() {
+            return !mustRevalidate && System.currentTimeMillis() - storedAt < maxAge.toMillis();
+        }
+
+        long size() {
+            return response.body().length + response.headers().toString().length();
+        }
+    }
+
+    private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>(64, 0.75f, true);
+    private static final Map<String, List<String>> VARY_BY_URL = new ConcurrentHashMap<>();
+    private static long bytesHeld;
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder REVALIDATED = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder BYTES_SAVED = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(APIResponseCache::writeSummary, "api-cache-summary"));
+    }
+
+    private APIResponseCache() {
+    }
+
+    public static boolean isEnabled() {
+        return SystemEnvironmentVariables.currentEnvironmentVariables()
+                .getPropertyAsBoolean(ENABLED_PROPERTY, false);
+    }
+
+    /**
+     * The stored response for a request, fresh or due for revalidation.
+     */
+    static Optional<Entry> lookup(String method, String url, Map<String, String> requestHeaders) {
+        String key = keyFor(method, url, VARY_BY_URL.getOrDefault(method + " " + url, List.of()), requestHeaders);
+        synchronized (ENTRIES) {
+            return Optional.ofNullable(ENTRIES.get(key));
+        }
+    }
+
+    static void recordHit(Entry entry) {
+        HITS.increment();
+        BYTES_SAVED.add(entry.response().body().length);
+    }
+
+    /**
+     * Keep the revalidated response for another freshness lifetime.
+     */
+    static void recordRevalidated(String method, String url, Map<String, String> requestHeaders, Entry entry,
+                                  Map<String, String> notModifiedHeaders) {
+        REVALIDATED.increment();
+        BYTES_SAVED.add(entry.response().body().length);
+        Map<String, String> headers = new LinkedHashMap<>(entry.response().headers());
+        headers.putAll(notModifiedHeaders);
+        CachedResponse response = entry.response();
+        store(method, url, requestHeaders, new CachedResponse(response.status(), response.url(), headers, response.body(), false));
+    }
+
+    static void recordMiss() {
+        MISSES.increment();
+    }
+
+    /**
+     * Keep a response from the network if its status and {@code Cache-Control} allow it.
+     */
+    static void store(String method, String url, Map<String, String> requestHeaders, CachedResponse response) {
+        Map<String, String> cacheControl = cacheControlOf(response.header("cache-control"));
+        boolean hasValidator = response.header("etag") != null || response.header("last-modified") != null;
+        Duration maxAge = maxAgeOf(cacheControl);
+        boolean mustRevalidate = cacheControl.containsKey("no-cache") || maxAge.isZero();
+        if (response.status() != 200 || cacheControl.containsKey("no-store") || (mustRevalidate && !hasValidator)) {
+            return;
+        }
+
+        List<String> varyNames = varyNamesOf(response.header("vary"));
+        if (varyNames.contains("*")) {
+            return;
+        }
+        VARY_BY_URL.put(method + " " + url, varyNames);
+        Entry entry = new Entry(response, System.currentTimeMillis(), maxAge, mustRevalidate);
+        long maxBytes = maxBytes();
+        if (entry.size() > maxBytes) {
+            return;
+        }
+
+        synchronized (ENTRIES) {
+            Entry replaced = ENTRIES.put(keyFor(method, url, varyNames, requestHeaders), entry);
+            bytesHeld += entry.size() - (replaced == null ? 0 : replaced.size());
+            Iterator<Entry> leastRecentlyUsed = ENTRIES.values().iterator();
+            while (bytesHeld > maxBytes && leastRecentlyUsed.hasNext()) {
+                Entry evicted = leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                bytesHeld -= evicted.size();
+                EVICTIONS.increment();
+            }
+        }
+    }
+
+    /**
+     * Forget every stored response, for tests that change server data.
+     */
+    public static void clear() {
+        synchronized (ENTRIES) {
+            ENTRIES.clear();
+            bytesHeld = 0;
+        }
+        VARY_BY_URL.clear();
+    }
+
+    private static String keyFor(String method, String url, List<String> varyNames, Map<String, String> requestHeaders) {
+        StringBuilder key = new StringBuilder(method).append(' ').append(url);
+        varyNames.forEach(name -> key.append('\n').append(name).append(':').append(requestHeaders.getOrDefault(name, "")));
+        return key.toString();
+    }
+
+    private static Map<String, String> cacheControlOf(String header) {
+        Map<String, String> directives = new LinkedHashMap<>();
+        if (header != null) {
+            for (String directive : header.split(",")) {
+                String[] parts = directive.trim().split("=", 2);
+                if (!parts[0].isEmpty()) {
+                    directives.put(parts[0].toLowerCase(Locale.ROOT), parts.length > 1 ? parts[1].replace("\"", "") : "");
+                }
+            }
+        }
+        return directives;
+    }
+
+    private static Duration maxAgeOf(Map<String, String> cacheControl) {
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(cacheControl.getOrDefault("max-age", "0"))));
+        } catch (NumberFormatException malformed) {
+            return Duration.ZERO;
+        }
+    }
+
+    private static List<String> varyNamesOf(String header) {
+        if (header == null || header.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(header.split(","))
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .filter(name -> !name.isEmpty())
+                .sorted()
+                .toList();
+    }
+
+    private static long maxBytes() {
+        String configured = SystemEnvironmentVariables.currentEnvironmentVariables().getProperty(MAX_BYTES_PROPERTY);
+        if (configured == null) {
+            return DEFAULT_MAX_BYTES;
+        }
+        try {
+            return Long.parseLong(configured.trim());
+        } catch (NumberFormatException malformed) {
+            return DEFAULT_MAX_BYTES;
+        }
+    }
+
+    private static void writeSummary() {
+        long hits = HITS.sum();
+        long revalidated = REVALIDATED.sum();
+        long misses = MISSES.sum();
+        long requests = hits + revalidated + misses;
+        if (requests == 0) {
+            return;
+        }
+        String summary = String.format(Locale.ROOT, "# API response cache%n%n| Measure | Value |%n|---|---:|%n"
+                        + "| Requests | %d |%n| Served fresh from the cache | %d |%n| Revalidated (304) | %d |%n"
+                        + "| Fetched | %d |%n| Hit rate | %.1f%% |%n| Body bytes saved | %d |%n| Evictions | %d |%n",
+                requests, hits, revalidated, misses, 100.0 * (hits + revalidated) / requests, BYTES_SAVED.sum(),
+                EVICTIONS.sum());
+        try {
+            Files.createDirectories(SUMMARY_FILE.getParent());
+            Files.writeString(SUMMARY_FILE, summary);
+        } catch (IOException e) {
+            LOG.warn("Could not write the API cache summary", e);
+        }
+        LOG.info("API response cache: {} requests, {}% served from the cache, {} body bytes saved",
+                requests, String.format(Locale.ROOT, "%.1f", 100.0 * (hits + revalidated) / requests), BYTES_SAVED.sum());
+    }
+}
@@ -0,0 +1,55 @@
+package todomvc.screenplay.tasks;
+
+import com.google.gson.Gson;
+import com.microsoft.playwright.Page;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The state of the TodoMVC app in a page: its URL and its localStorage, which is
+ * where TodoMVC keeps the todo list.
+ * <p>
+ * A snapshot taken once can be restored into a new page with a single navigation
+ * (see {@link OpenTodoMvcApp#fromSnapshot(AppSnapshot)}), instead of repeating the
+ * steps that produced it.
+ * </p>
+ */
+public record AppSnapshot(String url, Map<String, String> localStorage) {
+
+    private static final Gson GSON = new Gson();
+
+    public static AppSnapshot of(Page page) {
+        Map<?, ?> entries = (Map<?, ?>) page.evaluate("() => Object.fromEntries(Object.entries(localStorage))");
+        Map<String, String> storage = new LinkedHashMap<>();
+        entries.forEach((key, value) -> storage.put(String.valueOf(key), String.valueOf(value)));
+        return new AppSnapshot(page.url(), Map.copyOf(storage));
+    }
+
+    /**
+     * An init script that replaces localStorage with this snapshot's, once, on the
+     * first page load at the snapshot's origin. The token kept in sessionStorage
+     * stops later reloads in the same page from resetting the state again.
+     */
+    String restoreScript() {
+        URI uri = URI.create(url);
+        String origin = uri.getScheme() + "://" + uri.getAuthority();
+        return """
+            (() => {
+              const origin = %s;
+              const token = %s;
+              const entries = %s;
+              if (location.origin !== origin || sessionStorage.getItem('todomvc.snapshot') === token) {
+                return;
+              }
+              localStorage.clear();
+              for (const [key, value] of Object.entries(entries)) {
+                localStorage.setItem(key, value);
+              }
+              sessionStorage.setItem('todomvc.snapshot', token);
+            })();
+            """.formatted(GSON.toJson(origin), GSON.toJson(UUID.randomUUID().toString()), GSON.toJson(localStorage));
+    }
+}
@@ -0,0 +1,120 @@
+package todomvc.screenplay.tasks;
+
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.options.RequestOptions;
+import net.serenitybdd.annotations.Step;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Interaction;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Send a GET request that may be answered from the JVM-wide {@link APIResponseCache}.
+ * <p>
+ * Meant for setup calls that fetch the same reference data or configuration again
+ * and again. Like {@code APIRequest.get(...)}, the request goes through the
+ * browser context's request API and shares its cookies. When the cache is enabled, a fresh
+ * stored response is served without a request, and a stale one is revalidated with
+ * {@code If-None-Match} or {@code If-Modified-Since}. When it is disabled, every
+ * request goes over the wire. Either way, the response is read with the
+ * {@code TheCachedResponse} questions rather than {@code LastAPIResponse}.
+ * </p>
+ *
+ * Usage:
+ *   actor.attemptsTo(CachedAPIRequest.get("https://example.org/config").withHeader("Accept", "application/json"));
+ *   actor.asksFor(TheCachedResponse.statusCode());
+ */
+public class CachedAPIRequest implements Interaction {
+
+    public static final String LAST_RESPONSE = "last-cached-api-response";
+
+    private final String url;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private final Map<String, String> queryParams = new LinkedHashMap<>();
+
+    public CachedAPIRequest(String url) {
+        this.url = url;
+    }
+
+    public static CachedAPIRequest get(String url) {
+        return new CachedAPIRequest(url);
+    }
+
+    public CachedAPIRequest withHeader(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public CachedAPIRequest withQueryParam(String name, String value) {
+        queryParams.put(name, value);
+        return this;
+    }
+
+    @Override
+    @Step("{0} sends a GET request to #url, using the response cache")
+    public <T extends Actor> void performAs(T actor) {
+        String requestUrl = requestUrl();
+        actor.remember(LAST_RESPONSE, APIResponseCache.isEnabled()
+                ? throughTheCache(actor, requestUrl)
+                : fetch(actor, requestUrl, headers));
+    }
+
+    private CachedResponse throughTheCache(Actor actor, String requestUrl) {
+        Map<String, String> cacheHeaders = new LinkedHashMap<>();
+        headers.forEach((name, value) -> cacheHeaders.put(name.toLowerCase(Locale.ROOT), value));
+
+        Optional<APIResponseCache.Entry> stored = APIResponseCache.lookup("GET", requestUrl, cacheHeaders);
+        if (stored.isPresent() && stored.get().isFresh()) {
+            APIResponseCache.recordHit(stored.get());
+            return stored.get().response().servedFromCache();
+        }
+
+        Map<String, String> requestHeaders = new LinkedHashMap<>(headers);
+        stored.ifPresent(entry -> {
+            Optional.ofNullable(entry.response().header("etag"))
+                    .ifPresent(etag -> requestHeaders.put("If-None-Match", etag));
+            Optional.ofNullable(entry.response().header("last-modified"))
+                    .ifPresent(lastModified -> requestHeaders.put("If-Modified-Since", lastModified));
+        });
+        CachedResponse fetched = fetch(actor, requestUrl, requestHeaders);
+        if (stored.isPresent() && fetched.status() == 304) {
+            APIResponseCache.recordRevalidated("GET", requestUrl, cacheHeaders, stored.get(), fetched.headers());
+            return stored.get().response().servedFromCache();
+        }
+        APIResponseCache.recordMiss();
+        APIResponseCache.store("GET", requestUrl, cacheHeaders, fetched);
+        return fetched;
+    }
+
+    private static CachedResponse fetch(Actor actor, String requestUrl, Map<String, String> requestHeaders) {
+        APIRequestContext request = BrowseTheWebWithPlaywright.as(actor).getCurrentPage().context().request();
+        RequestOptions options = RequestOptions.create();
+        requestHeaders.forEach(options::setHeader);
+        APIResponse response = request.get(requestUrl, options);
+        try {
+            Map<String, String> responseHeaders = new LinkedHashMap<>();
+            response.headers().forEach((name, value) -> responseHeaders.put(name.toLowerCase(Locale.ROOT), value));
+            return new CachedResponse(response.status(), response.url(), responseHeaders, response.body(), false);
+        } finally {
+            response.dispose();
+        }
+    }
+
+    private String requestUrl() {
+        if (queryParams.isEmpty()) {
+            return url;
+        }
+        StringBuilder requestUrl = new StringBuilder(url).append(url.contains("?") ? '&' : '?');
+        queryParams.forEach((name, value) -> requestUrl
+                .append(URLEncoder.encode(name, StandardCharsets.UTF_8)).append('=')
+                .append(URLEncoder.encode(value, StandardCharsets.UTF_8)).append('&'));
+        return requestUrl.substring(0, requestUrl.length() - 1);
+    }
+}
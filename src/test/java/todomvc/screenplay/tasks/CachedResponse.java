@@ -0,0 +1,28 @@
+package todomvc.screenplay.tasks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A GET response served by {@link CachedAPIRequest}, from the network or from the
+ * {@link APIResponseCache}. Header names are lower case.
+ */
+public record CachedResponse(int status, String url, Map<String, String> headers, byte[] body, boolean fromCache) {
+
+    public String header(String name) {
+        return headers.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public String text() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    public boolean ok() {
+        return status >= 200 && status < 300;
+    }
+
+    CachedResponse servedFromCache() {
+        return new CachedResponse(status, url, headers, body, true);
+    }
+}
@@ -17,9 +17,11 @@ public class ClearCompletedTodos implements Task {
     @Override
     @Step("{0} clears all completed todos")
     public <T extends Actor> void performAs(T actor) {
-        actor.attemptsTo(
-            Click.on(TodoList.CLEAR_COMPLETED_BUTTON)
-        );
+        TaskHooks.around(actor, this, () -> {
+            actor.attemptsTo(
+                Click.on(TodoList.CLEAR_COMPLETED_BUTTON)
+            );
+        });
     }
 
     public static ClearCompletedTodos fromTheList() {
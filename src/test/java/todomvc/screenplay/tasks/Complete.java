@@ -23,9 +23,11 @@ public class Complete implements Task {
     @Override
     @Step("{0} completes the todo item '#todoItem'")
     public <T extends Actor> void performAs(T actor) {
-        actor.attemptsTo(
-            Click.on(TodoList.checkboxFor(todoItem))
-        );
+        TaskHooks.around(actor, this, () -> {
+            actor.attemptsTo(
+                Click.on(TodoList.checkboxFor(todoItem))
+            );
+        });
     }
 
     public static Complete todoItem(String todoItem) {
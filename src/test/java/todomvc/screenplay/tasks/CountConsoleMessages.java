@@ -0,0 +1,44 @@
+package todomvc.screenplay.tasks;
+
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Task;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import net.serenitybdd.annotations.Step;
+import todomvc.screenplay.abilities.TallyConsoleMessages;
+
+/**
+ * Start (or reset) a running tally of console messages by severity.
+ *
+ * Usage:
+ *   actor.attemptsTo(CountConsoleMessages.duringTest());
+ *   actor.attemptsTo(CountConsoleMessages.fromNowOn());
+ */
+public class CountConsoleMessages implements Task {
+
+    private final boolean reset;
+
+    public CountConsoleMessages(boolean reset) {
+        this.reset = reset;
+    }
+
+    @Override
+    @Step("{0} counts console messages by severity")
+    public <T extends Actor> void performAs(T actor) {
+        TallyConsoleMessages tally = TallyConsoleMessages.as(actor);
+        if (reset) {
+            tally.reset();
+        }
+        tally.attachTo(BrowseTheWebWithPlaywright.as(actor).getCurrentPage());
+    }
+
+    public static CountConsoleMessages duringTest() {
+        return new CountConsoleMessages(false);
+    }
+
+    /**
+     * Forget everything counted so far and keep counting.
+     */
+    public static CountConsoleMessages fromNowOn() {
+        return new CountConsoleMessages(true);
+    }
+}
@@ -24,10 +24,12 @@ public class Delete implements Task {
     @Override
     @Step("{0} deletes the todo item '#todoItem'")
     public <T extends Actor> void performAs(T actor) {
-        actor.attemptsTo(
-            Hover.over(TodoList.todoItemCalled(todoItem)),
-            Click.on(TodoList.deleteButtonFor(todoItem))
-        );
+        TaskHooks.around(actor, this, () -> {
+            actor.attemptsTo(
+                Hover.over(TodoList.todoItemCalled(todoItem)),
+                Click.on(TodoList.deleteButtonFor(todoItem))
+            );
+        });
     }
 
     public static Delete theTodoItem(String todoItem) {
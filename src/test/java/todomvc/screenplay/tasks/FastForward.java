@@ -0,0 +1,40 @@
+package todomvc.screenplay.tasks;
+
+import net.serenitybdd.annotations.Step;
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Task;
+import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
+import todomvc.screenplay.abilities.ControlTheClock;
+
+import java.time.Duration;
+
+/**
+ * Jump the app's clock forward instead of waiting for its timers.
+ * The actor needs the {@link ControlTheClock} ability. Timers that fire on the way
+ * may change the page, so remembered answers are forgotten as after any task.
+ *
+ * Usage:
+ *   actor.attemptsTo(FastForward.by(Duration.ofSeconds(30)));
+ */
+public class FastForward implements Task {
+
+    private final Duration duration;
+    private final String description;
+
+    public FastForward(Duration duration) {
+        this.duration = duration;
+        this.description = duration.toMillis() + " ms";
+    }
+
+    public static FastForward by(Duration duration) {
+        return new FastForward(duration);
+    }
+
+    @Override
+    @Step("{0} fast-forwards the app clock by #description")
+    public <T extends Actor> void performAs(T actor) {
+        TaskHooks.around(actor, this, () ->
+            ControlTheClock.as(actor).fastForward(BrowseTheWebWithPlaywright.as(actor).getCurrentPage(), duration)
+        );
+    }
+}
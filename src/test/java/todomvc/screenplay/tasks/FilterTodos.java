@@ -47,7 +47,7 @@ class FilterToShowAll implements Task {
     @Override
     @Step("{0} filters to show all todos")
     public <T extends Actor> void performAs(T actor) {
-        actor.attemptsTo(Click.on(TodoList.ALL_FILTER));
+        TaskHooks.around(actor, this, () -> actor.attemptsTo(Click.on(TodoList.ALL_FILTER)));
     }
 }
 
@@ -55,7 +55,7 @@ class FilterToShowActive implements Task {
     @Override
     @Step("{0} filters to show active todos")
     public <T extends Actor> void performAs(T actor) {
-        actor.attemptsTo(Click.on(TodoList.ACTIVE_FILTER));
+        TaskHooks.around(actor, this, () -> actor.attemptsTo(Click.on(TodoList.ACTIVE_FILTER)));
     }
 }
 
@@ -63,6 +63,6 @@ class FilterToShowCompleted implements Task {
     @Override
     @Step("{0} filters to show completed todos")
     public <T extends Actor> void performAs(T actor) {
-        actor.attemptsTo(Click.on(TodoList.COMPLETED_FILTER));
+        TaskHooks.around(actor, this, () -> actor.attemptsTo(Click.on(TodoList.COMPLETED_FILTER)));
     }
 }
@@ -5,32 +5,76 @@ import net.serenitybdd.screenplay.Task;
 import net.serenitybdd.screenplay.playwright.abilities.BrowseTheWebWithPlaywright;
 import net.serenitybdd.screenplay.playwright.interactions.Open;
 import net.serenitybdd.annotations.Step;
+import todomvc.app.TodoMvcApp;
+import todomvc.performance.PageLoadBudget;
+import todomvc.screenplay.abilities.ControlTheClock;
+import todomvc.screenplay.abilities.SimulateNetworkConditions;
 
 /**
  * Open the TodoMVC application.
- * Clears localStorage to ensure a clean state for each test.
+ * Clears localStorage to ensure a clean state for each test, then checks
+ * the page-load timings against the configured performance budgets.
+ * The app is opened at {@link TodoMvcApp#url()} unless another address is given.
+ * <p>
+ * Opened {@linkplain #fromSnapshot(AppSnapshot) from a snapshot}, the page's
+ * storage is set to the snapshot's before the app loads, so a single navigation
+ * replaces the open, clear and reload.
+ * <p>
+ * An actor that can {@link SimulateNetworkConditions} opens the app under them, and
+ * one that can {@link ControlTheClock} opens it with the virtual clock installed.
  */
 public class OpenTodoMvcApp implements Task {
 
-    private static final String TODO_MVC_URL = "https://todomvc.com/examples/react/dist/";
+    private final String url;
+    private final AppSnapshot snapshot;
+
+    public OpenTodoMvcApp(String url) {
+        this(url, null);
+    }
+
+    private OpenTodoMvcApp(String url, AppSnapshot snapshot) {
+        this.url = url;
+        this.snapshot = snapshot;
+    }
 
     @Override
     @Step("{0} opens the TodoMVC application")
     public <T extends Actor> void performAs(T actor) {
-        actor.attemptsTo(
-            Open.url(TODO_MVC_URL)
-        );
+        TaskHooks.around(actor, this, () -> {
+            var page = BrowseTheWebWithPlaywright.as(actor).getCurrentPage();
+            SimulateNetworkConditions.applyIfAble(actor);
+            ControlTheClock.installIfAble(actor);
+            if (snapshot != null) {
+                page.addInitScript(snapshot.restoreScript());
+                actor.attemptsTo(
+                    Open.url(url)
+                );
+            } else {
+                actor.attemptsTo(
+                    Open.url(url)
+                );
+
+                // Clear localStorage to ensure a clean slate for each test
+                // TodoMVC stores todos in localStorage, so this prevents state leakage between tests
+                page.evaluate("() => localStorage.clear()");
 
-        // Clear localStorage to ensure a clean slate for each test
-        // TodoMVC stores todos in localStorage, so this prevents state leakage between tests
-        var page = BrowseTheWebWithPlaywright.as(actor).getCurrentPage();
-        page.evaluate("() => localStorage.clear()");
+                // Reload to apply the cleared state
+                page.reload();
+            }
 
-        // Reload to apply the cleared state
-        page.reload();
+            PageLoadBudget.check(page, "TodoMVC application");
+        });
     }
 
     public static OpenTodoMvcApp onTheTodoMvcHomePage() {
-        return new OpenTodoMvcApp();
+        return new OpenTodoMvcApp(TodoMvcApp.url());
+    }
+
+    public static OpenTodoMvcApp at(String url) {
+        return new OpenTodoMvcApp(url);
+    }
+
+    public static OpenTodoMvcApp fromSnapshot(AppSnapshot snapshot) {
+        return new OpenTodoMvcApp(snapshot.url(), snapshot);
     }
 }
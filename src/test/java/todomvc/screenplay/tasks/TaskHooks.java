@@ -0,0 +1,34 @@
+package todomvc.screenplay.tasks;
+
+import net.serenitybdd.screenplay.Actor;
+import net.serenitybdd.screenplay.Task;
+import todomvc.performance.BrowserRuntimeMetrics;
+import todomvc.progress.LiveProgress;
+import todomvc.screenplay.questions.AnswerMemory;
+
+/**
+ * Hooks that run around every TodoMVC task in this package.
+ * <p>
+ * Tasks wrap the body of {@code performAs} in {@link #around(Actor, Task, Runnable)}
+ * so that cross-cutting concerns, such as measuring the browser work a task
+ * triggers or streaming its duration to the live progress view, live in one
+ * place instead of in each task.
+ * <p>
+ * Tasks change the page, so the actor's remembered answers are forgotten both
+ * before and after each task.
+ */
+final class TaskHooks {
+
+    private TaskHooks() {
+    }
+
+    static void around(Actor actor, Task task, Runnable performance) {
+        AnswerMemory.forget(actor);
+        try {
+            String name = task.getClass().getSimpleName();
+            LiveProgress.around(name, () -> BrowserRuntimeMetrics.around(actor, name, performance));
+        } finally {
+            AnswerMemory.forget(actor);
+        }
+    }
+}
@@ -18,10 +18,12 @@ public class ToggleAll implements Task {
     @Override
     @Step("{0} toggles all todos")
     public <T extends Actor> void performAs(T actor) {
-        // The toggle-all checkbox is visually hidden, so we need to use force click
-        Page page = BrowseTheWebWithPlaywright.as(actor).getCurrentPage();
-        page.locator("#toggle-all").click(new Locator.ClickOptions().setForce(true));
-        BrowseTheWebWithPlaywright.as(actor).notifyScreenChange();
+        TaskHooks.around(actor, this, () -> {
+            // The toggle-all checkbox is visually hidden, so we need to use force click
+            Page page = BrowseTheWebWithPlaywright.as(actor).getCurrentPage();
+            page.locator("#toggle-all").click(new Locator.ClickOptions().setForce(true));
+            BrowseTheWebWithPlaywright.as(actor).notifyScreenChange();
+        });
     }
 
     public static ToggleAll todos() {
@@ -0,0 +1,59 @@
+package todomvc.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Discards the AppCDS class archives of the {@code fast-startup} profile when the
+ * dependencies they were recorded against change.
+ * <p>
+ * The JVM will not map an archive whose class path has changed. With
+ * {@code -Xshare:auto} it simply starts without it, so after an upgrade every run
+ * would pay the full class-loading cost again without saying so. The archives are
+ * stamped with the dependency versions they were recorded for. When the stamp no
+ * longer matches, they are deleted, and the next {@code -Dfast-startup} run records
+ * them again.
+ * </p>
+ * <p>
+ * Usage: {@code ClassArchives <archive-directory> <stamp>}
+ * </p>
+ */
+public final class ClassArchives {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClassArchives.class);
+    private static final String STAMP_FILE = "recorded-for";
+
+    private ClassArchives() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(args[0]);
+        String stamp = args[1].trim();
+        Files.createDirectories(directory);
+
+        Path stampFile = directory.resolve(STAMP_FILE);
+        String recordedFor = Files.exists(stampFile) ? Files.readString(stampFile).trim() : "";
+        if (stamp.equals(recordedFor)) {
+            LOG.info("Class archives in {} match {}", directory, stamp);
+            return;
+        }
+        List<Path> archives;
+        try (Stream<Path> files = Files.list(directory)) {
+            archives = files.filter(file -> file.getFileName().toString().endsWith(".jsa")).toList();
+        }
+        for (Path archive : archives) {
+            Files.delete(archive);
+        }
+        Files.writeString(stampFile, stamp);
+        if (!archives.isEmpty()) {
+            LOG.info("Deleted {} class archives recorded for {}: the next run records them for {}",
+                    archives.size(), recordedFor, stamp);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package todomvc.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Extracts the Playwright driver (Node.js and the Playwright package) once, into a
+ * stable directory, so test JVMs can skip extracting it to a fresh temporary
+ * directory on every start.
+ * <p>
+ * Test JVMs use the cached copy when started with
+ * {@code -Dplaywright.cli.dir=<directory>}, which is what the {@code fast-startup}
+ * profile does. The directory name should include the Playwright version, because
+ * the driver must match the Playwright client.
+ * </p>
+ * <p>
+ * Usage: {@code DriverCache <directory>}
+ * </p>
+ */
+public final class DriverCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DriverCache.class);
+    private static final String COMPLETE_MARKER = ".complete";
+
+    private DriverCache() {
+    }
+
+    public static void main(String[] args) throws IOException, URISyntaxException {
+        Path target = Path.of(args[0]);
+        if (Files.exists(target.resolve(COMPLETE_MARKER))) {
+            LOG.info("Playwright driver already cached in {}", target);
+            return;
+        }
+        String platform = platformDir();
+        URL bundle = DriverCache.class.getResource("/driver/" + platform);
+        if (bundle == null) {
+            throw new IllegalStateException("No Playwright driver for " + platform + " on the test classpath");
+        }
+        URI uri = bundle.toURI();
+        if ("jar".equals(uri.getScheme())) {
+            try (FileSystem jar = openJar(uri)) {
+                copy(jar.provider().getPath(uri), target);
+            }
+        } else {
+            copy(Path.of(uri), target);
+        }
+        Files.createFile(target.resolve(COMPLETE_MARKER));
+        LOG.info("Playwright driver cached in {}", target);
+    }
+
+    private static FileSystem openJar(URI uri) throws IOException {
+        try {
+            return FileSystems.newFileSystem(uri, Collections.emptyMap());
+        } catch (FileSystemAlreadyExistsException e) {
+            return FileSystems.getFileSystem(uri);
+        }
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path destination = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(destination);
+                } else {
+                    Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+                    if (destination.getFileName().toString().startsWith("node")) {
+                        destination.toFile().setExecutable(true, true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The driver-bundle directory for this platform, named as Playwright names it.
+     */
+    private static String platformDir() {
+        String os = System.getProperty("os.name").toLowerCase(Locale.ROOT);
+        boolean arm = "aarch64".equals(System.getProperty("os.arch"));
+        if (os.contains("windows")) {
+            return "win32_x64";
+        }
+        if (os.contains("linux")) {
+            return arm ? "linux-arm64" : "linux";
+        }
+        if (os.contains("mac")) {
+            return arm ? "mac-arm64" : "mac";
+        }
+        throw new IllegalStateException("Unsupported platform: " + os);
+    }
+}
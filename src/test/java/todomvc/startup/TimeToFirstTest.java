@@ -0,0 +1,70 @@
+package todomvc.startup;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports how long the test JVM takes to start its first test.
+ * <p>
+ * Registered with the JUnit Platform launcher through
+ * {@code META-INF/services}, so it runs for both the JUnit and the Cucumber
+ * executions. The time is split into JVM start to test plan (class loading,
+ * discovery, glue scanning) and test plan to first test (extension and browser
+ * set-up), logged, and appended to {@code target/performance/startup.csv}
+ * with the start-up mode ({@code todomvc.startup.mode}) so it can be tracked.
+ * </p>
+ */
+public class TimeToFirstTest implements TestExecutionListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimeToFirstTest.class);
+    private static final Path STARTUP_FILE = Path.of("target", "performance", "startup.csv");
+
+    private final AtomicBoolean firstTestSeen = new AtomicBoolean();
+    private volatile long testPlanStartedAt;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        testPlanStartedAt = System.currentTimeMillis();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (!testIdentifier.isTest() || !firstTestSeen.compareAndSet(false, true)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long jvmStartedAt = ManagementFactory.getRuntimeMXBean().getStartTime();
+        long toTestPlan = testPlanStartedAt - jvmStartedAt;
+        long toFirstTest = now - jvmStartedAt;
+        String mode = System.getProperty("todomvc.startup.mode", "standard");
+
+        LOG.info("Time to first test: {} ms ({} ms to test plan, {} mode) - {}",
+                toFirstTest, toTestPlan, mode, testIdentifier.getDisplayName());
+        record(mode, toTestPlan, toFirstTest, testIdentifier.getDisplayName());
+    }
+
+    private static synchronized void record(String mode, long toTestPlan, long toFirstTest, String firstTest) {
+        try {
+            Files.createDirectories(STARTUP_FILE.getParent());
+            if (Files.notExists(STARTUP_FILE)) {
+                Files.writeString(STARTUP_FILE, "timestamp,mode,jvm-to-test-plan-ms,jvm-to-first-test-ms,first-test\n");
+            }
+            Files.writeString(STARTUP_FILE, String.format("%s,%s,%d,%d,\"%s\"%n",
+                    Instant.now(), mode, toTestPlan, toFirstTest, firstTest.replace("\"", "\"\"")),
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.warn("Could not record start-up time in {}", STARTUP_FILE, e);
+        }
+    }
+}
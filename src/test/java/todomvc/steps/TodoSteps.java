@@ -4,8 +4,13 @@ import com.microsoft.playwright.Page;
 import net.serenitybdd.annotations.Step;
 import net.serenitybdd.playwright.PlaywrightSerenity;
 import todomvc.pages.TodoMvcPage;
+import todomvc.performance.BrowserRuntimeMetrics;
+import todomvc.progress.LiveProgress;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Step library for TodoMVC interactions.
@@ -15,146 +20,193 @@ import java.util.List;
  * Assertions themselves belong in the test class, not here.
  * </p>
  * <p>
- * When using {@code @UsePlaywright}, call {@link #setPage(Page)} in your
- * {@code @BeforeEach} method with the injected Page. The page object is
- * lazily initialized from {@code PlaywrightSerenity.getCurrentPage()} if
- * not explicitly set.
+ * The steps work on the page bound to the current thread. When using
+ * {@code @UsePlaywright}, call {@link #bindTo(Page)} in your {@code @BeforeEach}
+ * method with the injected Page; {@code SerenityPlaywrightTest} calls
+ * {@link #releaseThisThread()} after each test. A thread with nothing bound falls
+ * back to {@code PlaywrightSerenity.getCurrentPage()}, which is also kept per
+ * thread. Since no page state lives in the step library itself, the test methods
+ * of a class can run concurrently, each on its own page.
+ * </p>
+ * <p>
+ * Every step goes through {@link #perform(String, Consumer)} or
+ * {@link #query(String, Function)}, so the browser work it triggers can be
+ * measured by {@link BrowserRuntimeMetrics} when that collector is enabled, and
+ * its duration streamed by {@link LiveProgress} when the live view is on.
  * </p>
  */
 public class TodoSteps {
 
-    private TodoMvcPage todoMvcPage;
+    private record Binding(Page page, TodoMvcPage todoMvcPage) {}
 
-    public void setPage(Page page) {
-        this.todoMvcPage = new TodoMvcPage(page);
+    private static final ThreadLocal<Binding> BINDING = new ThreadLocal<>();
+
+    /**
+     * Bind the steps run on this thread to a page, until {@link #releaseThisThread()}.
+     */
+    public void bindTo(Page page) {
+        BINDING.set(new Binding(page, new TodoMvcPage(page)));
     }
 
-    private TodoMvcPage page() {
-        if (todoMvcPage == null) {
+    /**
+     * Forget the page bound to this thread, so the next test on it starts unbound.
+     */
+    public static void releaseThisThread() {
+        BINDING.remove();
+    }
+
+    private Binding binding() {
+        Binding binding = BINDING.get();
+        if (binding == null || binding.page().isClosed()) {
             Page currentPage = PlaywrightSerenity.getCurrentPage();
-            if (currentPage != null) {
-                todoMvcPage = new TodoMvcPage(currentPage);
+            if (currentPage == null) {
+                throw new IllegalStateException("No page is bound to TodoSteps on thread "
+                        + Thread.currentThread().getName() + "; call bindTo(page) in @BeforeEach");
             }
+            bindTo(currentPage);
+            binding = BINDING.get();
         }
-        return todoMvcPage;
+        return binding;
+    }
+
+    private void perform(String action, Consumer<TodoMvcPage> interaction) {
+        Binding binding = binding();
+        LiveProgress.around(action,
+                () -> BrowserRuntimeMetrics.around(binding.page(), action, () -> interaction.accept(binding.todoMvcPage())));
+    }
+
+    private <T> T query(String action, Function<TodoMvcPage, T> question) {
+        Binding binding = binding();
+        return LiveProgress.measure(action,
+                () -> BrowserRuntimeMetrics.measure(binding.page(), action, () -> question.apply(binding.todoMvcPage())));
     }
 
     // ========== Navigation Steps ==========
 
     @Step("Open the TodoMVC application")
     public void openApplication() {
-        page().open();
+        perform("Open the TodoMVC application", TodoMvcPage::open);
+    }
+
+    @Step("Give the application a virtual clock")
+    public void controlTheClock() {
+        perform("Give the application a virtual clock", TodoMvcPage::installClock);
+    }
+
+    @Step("Let {0} pass on the application clock")
+    public void letTimePass(Duration duration) {
+        perform("Let time pass on the application clock", page -> page.fastForward(duration));
     }
 
     // ========== Adding Todo Steps ==========
 
     @Step("Add a todo: '{0}'")
     public void addTodo(String todoText) {
-        page().addTodo(todoText);
+        perform("Add a todo", page -> page.addTodo(todoText));
     }
 
     @Step("Add todos: {0}")
     public void addTodos(String... todoTexts) {
-        page().addTodos(todoTexts);
+        perform("Add todos", page -> page.addTodos(todoTexts));
     }
 
     // ========== Completing Todo Steps ==========
 
     @Step("Complete the todo: '{0}'")
     public void completeTodo(String todoText) {
-        page().completeTodo(todoText);
+        perform("Complete the todo", page -> page.completeTodo(todoText));
     }
 
     @Step("Toggle all todos")
     public void toggleAll() {
-        page().toggleAll();
+        perform("Toggle all todos", TodoMvcPage::toggleAll);
     }
 
     // ========== Editing Todo Steps ==========
 
     @Step("Edit todo '{0}' to '{1}'")
     public void editTodo(String oldText, String newText) {
-        page().editTodo(oldText, newText);
+        perform("Edit todo", page -> page.editTodo(oldText, newText));
     }
 
     @Step("Cancel editing the todo: '{0}'")
     public void cancelEdit(String todoText) {
-        page().cancelEdit(todoText);
+        perform("Cancel editing the todo", page -> page.cancelEdit(todoText));
     }
 
     // ========== Deleting Todo Steps ==========
 
     @Step("Delete the todo: '{0}'")
     public void deleteTodo(String todoText) {
-        page().deleteTodo(todoText);
+        perform("Delete the todo", page -> page.deleteTodo(todoText));
     }
 
     @Step("Clear all completed todos")
     public void clearCompleted() {
-        page().clearCompleted();
+        perform("Clear all completed todos", TodoMvcPage::clearCompleted);
     }
 
     // ========== Filtering Steps ==========
 
     @Step("Filter to show all todos")
     public void filterAll() {
-        page().filterAll();
+        perform("Filter to show all todos", TodoMvcPage::filterAll);
     }
 
     @Step("Filter to show active todos only")
     public void filterActive() {
-        page().filterActive();
+        perform("Filter to show active todos only", TodoMvcPage::filterActive);
     }
 
     @Step("Filter to show completed todos only")
     public void filterCompleted() {
-        page().filterCompleted();
+        perform("Filter to show completed todos only", TodoMvcPage::filterCompleted);
     }
 
     // ========== Query Methods (return data for assertions in tests) ==========
 
     @Step("Get the number of visible todos")
     public int visibleTodoCount() {
-        return todoMvcPage.getVisibleTodoCount();
+        return query("Get the number of visible todos", TodoMvcPage::getVisibleTodoCount);
     }
 
     @Step("Get the visible todo items")
     public List<String> visibleTodos() {
-        return todoMvcPage.getVisibleTodoTexts();
+        return query("Get the visible todo items", TodoMvcPage::getVisibleTodoTexts);
     }
 
     @Step("Get the remaining items count")
     public int remainingCount() {
-        return todoMvcPage.getRemainingCount();
+        return query("Get the remaining items count", TodoMvcPage::getRemainingCount);
     }
 
     @Step("Check if todo '{0}' exists")
     public boolean todoExists(String todoText) {
-        return todoMvcPage.hasTodo(todoText);
+        return query("Check if todo exists", page -> page.hasTodo(todoText));
     }
 
     @Step("Check if todo '{0}' is completed")
     public boolean todoIsCompleted(String todoText) {
-        return todoMvcPage.isCompleted(todoText);
+        return query("Check if todo is completed", page -> page.isCompleted(todoText));
     }
 
     @Step("Check if main section is visible")
     public boolean mainSectionIsVisible() {
-        return todoMvcPage.isMainSectionVisible();
+        return query("Check if main section is visible", TodoMvcPage::isMainSectionVisible);
     }
 
     @Step("Check if footer is visible")
     public boolean footerIsVisible() {
-        return todoMvcPage.isFooterVisible();
+        return query("Check if footer is visible", TodoMvcPage::isFooterVisible);
     }
 
     @Step("Check if 'Clear completed' button is visible")
     public boolean clearCompletedIsVisible() {
-        return todoMvcPage.isClearCompletedVisible();
+        return query("Check if 'Clear completed' button is visible", TodoMvcPage::isClearCompletedVisible);
     }
 
     @Step("Get the selected filter")
     public String selectedFilter() {
-        return todoMvcPage.getSelectedFilter();
+        return query("Get the selected filter", TodoMvcPage::getSelectedFilter);
     }
 }
\ No newline at end of file